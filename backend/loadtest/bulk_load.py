@@ -0,0 +1,115 @@
+#!/usr/bin/env python3
+"""Benchmark of bulk review ingestion against submitting reviews one at a time.
+
+Saves the same number of unique reviews twice: first one request per review to
+POST /api/reviews (submitReview in a loop, over one keep-alive connection per submitter), then in
+chunks of --batch-size to POST /api/reviews/bulk. For each run the table shows end-to-end rows/sec
+and, read from the backend's spring_data_repository_invocations meters, the time spent inside
+the repository save calls and the rows/sec that time amounts to, which isolates the insert cost
+from the model analysis in front of it.
+
+Run it against a backend with write-behind off, so single submissions are inserted on the
+request thread (REVIEW_WRITE_BEHIND_ENABLED=false, the default):
+    python3 backend/loadtest/bulk_load.py --url http://localhost:8080 --reviews 5000
+
+Standard library only. Reviews are saved under the movie "loadtest"; delete them afterwards with
+DELETE FROM reviews WHERE movie_id = 'loadtest';
+"""
+
+import argparse
+import http.client
+import json
+import random
+import re
+import threading
+import time
+import urllib.parse
+import urllib.request
+from collections import Counter
+
+WORDS = ("great acting plot twist boring slow brilliant score visuals script dialogue ending "
+         "cast direction pacing soundtrack characters story moving dull awful superb tense "
+         "funny predictable original stunning weak strong memorable forgettable").split()
+
+
+def review(rng, serial):
+    text = " ".join(rng.choice(WORDS) for _ in range(rng.randint(8, 30))) + f" #{serial}"
+    return {"movieId": "loadtest", "reviewText": text}
+
+
+def save_meters(base_url):
+    with urllib.request.urlopen(base_url + "/actuator/prometheus", timeout=30) as response:
+        text = response.read().decode()
+    pattern = re.compile(r"^spring_data_repository_invocations_seconds_(count|sum)\{([^}]*)\} ([0-9.eE+-]+)$", re.M)
+    totals = Counter()
+    for kind, labels, value in pattern.findall(text):
+        if 'repository="ReviewRepository"' in labels and 'state="SUCCESS"' in labels:
+            method = re.search(r'method="([^"]*)"', labels).group(1)
+            if method in ("save", "saveAll"):
+                totals[kind] += float(value)
+    return totals
+
+
+def post_all(host, port, path, bodies, statuses, lock):
+    connection = http.client.HTTPConnection(host, port, timeout=120)
+    try:
+        for body in bodies:
+            try:
+                connection.request("POST", path, json.dumps(body), {"Content-Type": "application/json"})
+                response = connection.getresponse()
+                response.read()
+                status = response.status
+            except (OSError, http.client.HTTPException):
+                connection.close()
+                connection = http.client.HTTPConnection(host, port, timeout=120)
+                status = "error"
+            with lock:
+                statuses[status] += 1
+    finally:
+        connection.close()
+
+
+def run(args, host, port, label, path, bodies, rows):
+    statuses, lock = Counter(), threading.Lock()
+    before = save_meters(args.url)
+    # Each submitter takes every n-th request, so requests stay evenly spread
+    threads = [threading.Thread(target=post_all, args=(host, port, path, bodies[i::args.submitters], statuses, lock))
+               for i in range(args.submitters)]
+    start = time.monotonic()
+    for thread in threads:
+        thread.start()
+    for thread in threads:
+        thread.join()
+    elapsed = time.monotonic() - start
+    after = save_meters(args.url)
+
+    save_seconds = after["sum"] - before["sum"]
+    save_calls = int(after["count"] - before["count"])
+    status_text = " ".join(f"{status}:{count}" for status, count in sorted(statuses.items(), key=str))
+    print(f"{label:>8} {rows:>7} {rows / elapsed:>9.1f} {save_calls:>7} {save_seconds:>8.2f} "
+          f"{rows / save_seconds if save_seconds else 0.0:>10.1f}  {status_text}", flush=True)
+
+
+def main():
+    parser = argparse.ArgumentParser(description=__doc__.splitlines()[0])
+    parser.add_argument("--url", default="http://localhost:8080")
+    parser.add_argument("--reviews", type=int, default=2000, help="reviews saved by each run")
+    parser.add_argument("--batch-size", type=int, default=500, help="reviews per bulk request (review.bulk.max-size)")
+    parser.add_argument("--submitters", type=int, default=1, help="concurrent connections per run")
+    parser.add_argument("--seed", type=int, default=int(time.time()))
+    args = parser.parse_args()
+
+    parsed = urllib.parse.urlparse(args.url)
+    host, port = parsed.hostname, parsed.port or 80
+    rng = random.Random(args.seed)
+
+    print(f"{'run':>8} {'rows':>7} {'rows/s':>9} {'saves':>7} {'save s':>8} {'save rows/s':>10}  status")
+    single = [review(rng, f"{args.seed}-single-{i}") for i in range(args.reviews)]
+    run(args, host, port, "single", "/api/reviews", single, args.reviews)
+    bulk = [review(rng, f"{args.seed}-bulk-{i}") for i in range(args.reviews)]
+    chunks = [bulk[i:i + args.batch_size] for i in range(0, len(bulk), args.batch_size)]
+    run(args, host, port, "bulk", "/api/reviews/bulk", chunks, args.reviews)
+
+
+if __name__ == "__main__":
+    main()
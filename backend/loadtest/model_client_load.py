@@ -0,0 +1,107 @@
+#!/usr/bin/env python3
+"""Load test for connection reuse between the backend and the model server.
+
+Posts unique reviews from --concurrency submitters for --duration seconds (the same load as
+submit_load.py, so every submission needs a model call) and reads the backend's Reactor Netty
+meters from /actuator/prometheus. The table shows throughput, latency, model calls, how many new
+TCP connections the backend opened to the model server and how many that is per 1000 model calls,
+and the peak active and pending (waiting for a pooled connection) connections sampled while the
+run was going.
+
+Run it once per client configuration and compare the rows. With the shipped pool settings:
+    python3 backend/loadtest/model_client_load.py --label tuned
+With Reactor Netty's default pool sizing instead (max(16, 2 x cores) connections, twice that
+many pending acquires, 45s acquire timeout), e.g. on an 8-core host:
+    MODEL_CLIENT_MAX_CONNECTIONS=16 MODEL_CLIENT_POOL_PENDING_ACQUIRE_MAX_COUNT=32 \\
+    MODEL_CLIENT_POOL_PENDING_ACQUIRE_TIMEOUT_MS=45000
+    python3 backend/loadtest/model_client_load.py --label netty-defaults
+And without reuse, every pooled connection counting as expired by the time it is acquired again:
+    MODEL_CLIENT_POOL_MAX_IDLE_TIME_MS=1
+    python3 backend/loadtest/model_client_load.py --label no-reuse
+The environment variables go to the backend, which must be restarted between runs. Turn micro-
+batching off (MODEL_BATCH_ENABLED=false) so there is one model call per submission.
+
+Standard library only. Reviews are saved under the movie "loadtest"; delete them afterwards with
+DELETE FROM reviews WHERE movie_id = 'loadtest';
+"""
+
+import argparse
+import re
+import threading
+import time
+import urllib.parse
+import urllib.request
+from collections import Counter
+
+from submit_load import percentile, submitter
+
+
+def meters(base_url):
+    with urllib.request.urlopen(base_url + "/actuator/prometheus", timeout=30) as response:
+        text = response.read().decode()
+
+    def total(name, label_filter=""):
+        pattern = re.compile(r"^" + name + r"(\{[^}]*\})? ([0-9.eE+-]+)$", re.M)
+        return sum(float(value) for labels, value in pattern.findall(text) if label_filter in (labels or ""))
+
+    return {
+        "model_calls": total("model_server_requests_seconds_count"),
+        "connects": total("reactor_netty_http_client_connect_time_seconds_count"),
+        "active": total("reactor_netty_connection_provider_active_connections", 'name="model-server"'),
+        "pending": total("reactor_netty_connection_provider_pending_connections", 'name="model-server"'),
+    }
+
+
+def sample_peaks(base_url, stop, peaks):
+    while not stop.wait(0.5):
+        try:
+            m = meters(base_url)
+        except OSError:
+            continue
+        peaks["active"] = max(peaks["active"], m["active"])
+        peaks["pending"] = max(peaks["pending"], m["pending"])
+
+
+def main():
+    parser = argparse.ArgumentParser(description=__doc__.splitlines()[0])
+    parser.add_argument("--url", default="http://localhost:8080")
+    parser.add_argument("--concurrency", type=int, default=64, help="concurrent submitters")
+    parser.add_argument("--duration", type=float, default=30.0, help="seconds")
+    parser.add_argument("--label", default="run", help="name for this run in the output")
+    args = parser.parse_args()
+
+    parsed = urllib.parse.urlparse(args.url)
+    host, port = parsed.hostname, parsed.port or 80
+
+    latencies, statuses, lock = [], Counter(), threading.Lock()
+    before = meters(args.url)
+    peaks, stop = {"active": 0.0, "pending": 0.0}, threading.Event()
+    sampler = threading.Thread(target=sample_peaks, args=(args.url, stop, peaks), daemon=True)
+    sampler.start()
+    deadline = time.monotonic() + args.duration
+    threads = [threading.Thread(target=submitter, args=(host, port, deadline, latencies, statuses, lock,
+                                                        f"{args.label}-pool-{i}"))
+               for i in range(args.concurrency)]
+    start = time.monotonic()
+    for thread in threads:
+        thread.start()
+    for thread in threads:
+        thread.join()
+    elapsed = time.monotonic() - start
+    stop.set()
+    sampler.join()
+    after = meters(args.url)
+
+    calls = after["model_calls"] - before["model_calls"]
+    connects = after["connects"] - before["connects"]
+    status_text = " ".join(f"{status}:{count}" for status, count in sorted(statuses.items(), key=str))
+    print(f"{'run':>14} {'subs':>5} {'ok/s':>8} {'p50 ms':>8} {'p99 ms':>8} {'calls':>7} "
+          f"{'connects':>9} {'per 1k':>7} {'active':>7} {'pending':>8}  status")
+    print(f"{args.label:>14} {args.concurrency:>5} {len(latencies) / elapsed:>8.1f} "
+          f"{percentile(latencies, 0.5) * 1000:>8.1f} {percentile(latencies, 0.99) * 1000:>8.1f} "
+          f"{int(calls):>7} {int(connects):>9} {connects * 1000 / calls if calls else 0.0:>7.1f} "
+          f"{int(peaks['active']):>7} {int(peaks['pending']):>8}  {status_text}", flush=True)
+
+
+if __name__ == "__main__":
+    main()
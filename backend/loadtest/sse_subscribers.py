@@ -0,0 +1,142 @@
+#!/usr/bin/env python3
+"""Load test for the /api/events server-sent event stream.
+
+Opens idle subscribers in steps and, after each step, reads the backend's own meters
+(events_subscribers, used JVM heap, live threads) from /actuator/prometheus, so the output shows
+how many subscribers one backend holds and roughly what each one costs (heap use includes
+garbage, so compare the trend, not single rows). With --publish, a review for the movie
+"loadtest" is saved after every step and the time until every subscriber has received it is
+reported.
+
+Standard library only:
+    python3 backend/loadtest/sse_subscribers.py --url http://localhost:8080 --subscribers 10000
+
+The backend must allow that many connections, e.g.
+    TOMCAT_MAX_CONNECTIONS=11000 EVENTS_MAX_SUBSCRIBERS=10000
+and the client needs enough file descriptors (ulimit -n).
+"""
+
+import argparse
+import asyncio
+import json
+import re
+import time
+import urllib.parse
+import urllib.request
+
+
+class Subscriber:
+    def __init__(self):
+        self.reader = None
+        self.writer = None
+        self.review_ids = {}
+
+    async def connect(self, host, port, path):
+        self.reader, self.writer = await asyncio.open_connection(host, port)
+        self.writer.write((f"GET {path} HTTP/1.1\r\nHost: {host}\r\n"
+                           "Accept: text/event-stream\r\n\r\n").encode())
+        await self.writer.drain()
+        status = await self.reader.readline()
+        if b" 200 " not in status:
+            raise RuntimeError(status.decode().strip())
+        while (await self.reader.readline()) not in (b"\r\n", b""):
+            pass
+
+    async def listen(self):
+        # The stream is chunked; reassemble it before splitting it into lines
+        buffer, event = b"", None
+        try:
+            while True:
+                size = int((await self.reader.readline()).strip() or b"0", 16)
+                if size == 0:
+                    return
+                buffer += await self.reader.readexactly(size + 2)
+                buffer = buffer[:-2]
+                *lines, buffer = buffer.split(b"\n")
+                for line in lines:
+                    line = line.decode(errors="replace").rstrip("\r")
+                    if line.startswith("event:"):
+                        event = line[6:].strip()
+                    elif line.startswith("data:") and event == "review":
+                        review = json.loads(line[5:])
+                        self.review_ids[review.get("id")] = time.monotonic()
+        except (ConnectionError, ValueError, asyncio.IncompleteReadError):
+            return
+
+    def close(self):
+        if self.writer:
+            self.writer.close()
+
+
+def http(url, body=None):
+    data = json.dumps(body).encode() if body is not None else None
+    request = urllib.request.Request(url, data=data, headers={"Content-Type": "application/json"})
+    with urllib.request.urlopen(request, timeout=30) as response:
+        return response.read().decode()
+
+
+def meters(base_url):
+    text = http(base_url + "/actuator/prometheus")
+
+    def total(name, label_filter=""):
+        pattern = re.compile(r"^" + name + r"(\{[^}]*\})? ([0-9.eE+-]+)$", re.M)
+        return sum(float(value) for labels, value in pattern.findall(text) if label_filter in (labels or ""))
+
+    return {
+        "subscribers": int(total("events_subscribers")),
+        "heap_mb": total("jvm_memory_used_bytes", 'area="heap"') / (1024 * 1024),
+        "threads": int(total("jvm_threads_live_threads")),
+    }
+
+
+async def main():
+    parser = argparse.ArgumentParser(description=__doc__.splitlines()[0])
+    parser.add_argument("--url", default="http://localhost:8080")
+    parser.add_argument("--subscribers", type=int, default=5000)
+    parser.add_argument("--step", type=int, default=1000, help="subscribers added per step")
+    parser.add_argument("--settle", type=float, default=5.0, help="seconds to wait before measuring a step")
+    parser.add_argument("--publish", action="store_true", help="submit a review per step and time its fan-out")
+    args = parser.parse_args()
+
+    parsed = urllib.parse.urlparse(args.url)
+    host, port = parsed.hostname, parsed.port or 80
+    subscribers, listeners = [], []
+
+    baseline = meters(args.url)
+    print(f"baseline: heap {baseline['heap_mb']:.1f} MB, {baseline['threads']} threads")
+    print(f"{'subscribers':>11} {'server':>8} {'heap MB':>9} {'KB/sub':>8} {'threads':>8} {'fan-out ms':>11}")
+
+    try:
+        while len(subscribers) < args.subscribers:
+            batch = [Subscriber() for _ in range(min(args.step, args.subscribers - len(subscribers)))]
+            await asyncio.gather(*(s.connect(host, port, "/api/events") for s in batch))
+            subscribers.extend(batch)
+            listeners.extend(asyncio.create_task(s.listen()) for s in batch)
+            await asyncio.sleep(args.settle)
+
+            fan_out = ""
+            if args.publish:
+                start = time.monotonic()
+                saved = json.loads(await asyncio.to_thread(http, args.url + "/api/reviews/bulk", [
+                    {"movieId": "loadtest", "reviewText": f"Load test review at {len(subscribers)} subscribers"}]))
+                review_id = saved["reviews"][0]["id"]
+                deadline = start + 30
+                while time.monotonic() < deadline and not all(review_id in s.review_ids for s in subscribers):
+                    await asyncio.sleep(0.05)
+                received = [s.review_ids[review_id] for s in subscribers if review_id in s.review_ids]
+                fan_out = f"{(max(received) - start) * 1000:.0f}" if len(received) == len(subscribers) \
+                    else f"{len(received)}/{len(subscribers)}"
+
+            m = await asyncio.to_thread(meters, args.url)
+            per_sub = (m["heap_mb"] - baseline["heap_mb"]) * 1024 / len(subscribers)
+            print(f"{len(subscribers):>11} {m['subscribers']:>8} {m['heap_mb']:>9.1f} {per_sub:>8.1f} "
+                  f"{m['threads']:>8} {fan_out:>11}")
+    finally:
+        for s in subscribers:
+            s.close()
+        for task in listeners:
+            task.cancel()
+
+
+if __name__ == "__main__":
+    asyncio.run(main())
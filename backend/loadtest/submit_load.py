@@ -0,0 +1,165 @@
+#!/usr/bin/env python3
+"""Load test for review submission at several levels of concurrency.
+
+For each level (1, 16 and 256 submitters by default) the submitters post reviews to
+POST /api/reviews back to back for --duration seconds, each over its own keep-alive connection.
+Every review text is unique, so the sentiment cache never answers and every submission needs a
+model analysis. After each level the backend's own meters are read from /actuator/prometheus
+and the table shows throughput, latency percentiles, responses by status, how many model server
+calls were made (per-text /analyze and /analyze/batch), the mean texts per batch, and the peak
+live JVM threads and used heap sampled while the level ran.
+
+Run it once against a backend started with MODEL_BATCH_ENABLED=false and once with
+MODEL_BATCH_ENABLED=true to compare one model call per review with micro-batching:
+    python3 backend/loadtest/submit_load.py --url http://localhost:8080 --label unbatched
+    python3 backend/loadtest/submit_load.py --url http://localhost:8080 --label batched
+
+Standard library only. Reviews are saved under the movie "loadtest"; delete them afterwards with
+DELETE FROM reviews WHERE movie_id = 'loadtest';
+
+At 256 submitters the backend's defaults will reject part of the load: 256 connections fit in
+the 1200 Tomcat connections, but only 50 model calls run concurrently. Those rejections show up in
+the status column, so raise MODEL_MAX_CONCURRENT_CALLS to measure throughput alone (and
+TOMCAT_MAX_CONNECTIONS for levels above 1200 submitters).
+
+To compare platform and virtual request threads, slow the model server down so request threads
+spend their time blocked (SIMULATED_LATENCY_MS=200), lift the connection and model call limits
+(TOMCAT_MAX_CONNECTIONS=3000 MODEL_MAX_CONCURRENT_CALLS=3000 MODEL_CLIENT_MAX_CONNECTIONS=3000),
+and run past Tomcat's 200 worker threads with VIRTUAL_THREADS_ENABLED=false and then =true:
+    python3 backend/loadtest/submit_load.py --concurrency 16,256,1024,2048 --label platform
+    python3 backend/loadtest/submit_load.py --concurrency 16,256,1024,2048 --label virtual
+"""
+
+import argparse
+import http.client
+import json
+import random
+import re
+import threading
+import time
+import urllib.parse
+import urllib.request
+from collections import Counter
+
+WORDS = ("great acting plot twist boring slow brilliant score visuals script dialogue ending "
+         "cast direction pacing soundtrack characters story moving dull awful superb tense "
+         "funny predictable original stunning weak strong memorable forgettable").split()
+
+
+def review_text(rng, serial):
+    return " ".join(rng.choice(WORDS) for _ in range(rng.randint(8, 30))) + f" #{serial}"
+
+
+def submitter(host, port, deadline, latencies, statuses, lock, seed):
+    rng = random.Random(seed)
+    connection = http.client.HTTPConnection(host, port, timeout=30)
+    serial = 0
+    try:
+        while time.monotonic() < deadline:
+            serial += 1
+            body = json.dumps({"movieId": "loadtest", "reviewText": review_text(rng, f"{seed}-{serial}")})
+            start = time.monotonic()
+            try:
+                connection.request("POST", "/api/reviews", body, {"Content-Type": "application/json"})
+                response = connection.getresponse()
+                response.read()
+                status = response.status
+            except (OSError, http.client.HTTPException):
+                # The server closed the connection (keep-alive limit or overload); reconnect
+                connection.close()
+                connection = http.client.HTTPConnection(host, port, timeout=30)
+                status = "error"
+            elapsed = time.monotonic() - start
+            with lock:
+                statuses[status] += 1
+                if status in (200, 201):
+                    latencies.append(elapsed)
+    finally:
+        connection.close()
+
+
+def meters(base_url):
+    with urllib.request.urlopen(base_url + "/actuator/prometheus", timeout=30) as response:
+        text = response.read().decode()
+
+    def total(name, label_filter=""):
+        pattern = re.compile(r"^" + name + r"(\{[^}]*\})? ([0-9.eE+-]+)$", re.M)
+        return sum(float(value) for labels, value in pattern.findall(text) if label_filter in (labels or ""))
+
+    return {
+        "analyze_calls": total("model_server_requests_seconds_count", 'operation="analyze"'),
+        "batch_calls": total("model_server_requests_seconds_count", 'operation="analyze_batch"'),
+        "batch_texts": total("model_server_batch_size_sum"),
+        "threads": int(total("jvm_threads_live_threads")),
+        "heap_mb": total("jvm_memory_used_bytes", 'area="heap"') / (1024 * 1024),
+    }
+
+
+def sample_peaks(base_url, stop, peaks):
+    while not stop.wait(1.0):
+        try:
+            m = meters(base_url)
+        except OSError:
+            continue
+        peaks["threads"] = max(peaks["threads"], m["threads"])
+        peaks["heap_mb"] = max(peaks["heap_mb"], m["heap_mb"])
+
+
+def percentile(values, fraction):
+    if not values:
+        return 0.0
+    ordered = sorted(values)
+    return ordered[min(len(ordered) - 1, int(len(ordered) * fraction))]
+
+
+def run_level(args, host, port, concurrency):
+    latencies, statuses, lock = [], Counter(), threading.Lock()
+    before = meters(args.url)
+    peaks, stop = {"threads": before["threads"], "heap_mb": before["heap_mb"]}, threading.Event()
+    sampler = threading.Thread(target=sample_peaks, args=(args.url, stop, peaks), daemon=True)
+    sampler.start()
+    deadline = time.monotonic() + args.duration
+    threads = [threading.Thread(target=submitter, args=(host, port, deadline, latencies, statuses, lock,
+                                                        f"{args.label}-{concurrency}-{i}"))
+               for i in range(concurrency)]
+    start = time.monotonic()
+    for thread in threads:
+        thread.start()
+    for thread in threads:
+        thread.join()
+    elapsed = time.monotonic() - start
+    stop.set()
+    sampler.join()
+    after = meters(args.url)
+
+    batch_calls = after["batch_calls"] - before["batch_calls"]
+    mean_batch = (after["batch_texts"] - before["batch_texts"]) / batch_calls if batch_calls else 0.0
+    status_text = " ".join(f"{status}:{count}" for status, count in sorted(statuses.items(), key=str))
+    print(f"{args.label:>10} {concurrency:>5} {len(latencies) / elapsed:>8.1f} "
+          f"{percentile(latencies, 0.5) * 1000:>8.1f} {percentile(latencies, 0.99) * 1000:>8.1f} "
+          f"{int(after['analyze_calls'] - before['analyze_calls']):>9} {int(batch_calls):>8} {mean_batch:>6.1f} "
+          f"{peaks['threads']:>8} {peaks['heap_mb']:>8.0f}  {status_text}", flush=True)
+
+
+def main():
+    parser = argparse.ArgumentParser(description=__doc__.splitlines()[0])
+    parser.add_argument("--url", default="http://localhost:8080")
+    parser.add_argument("--concurrency", default="1,16,256", help="comma-separated submitter counts")
+    parser.add_argument("--duration", type=float, default=30.0, help="seconds per level")
+    parser.add_argument("--pause", type=float, default=5.0, help="seconds between levels")
+    parser.add_argument("--label", default="run", help="name for this run in the output")
+    args = parser.parse_args()
+
+    parsed = urllib.parse.urlparse(args.url)
+    host, port = parsed.hostname, parsed.port or 80
+
+    print(f"{'run':>10} {'subs':>5} {'ok/s':>8} {'p50 ms':>8} {'p99 ms':>8} "
+          f"{'/analyze':>9} {'batches':>8} {'texts':>6} {'threads':>8} {'heap MB':>8}  status")
+    for index, level in enumerate(int(value) for value in args.concurrency.split(",")):
+        if index:
+            time.sleep(args.pause)
+        run_level(args, host, port, level)
+
+
+if __name__ == "__main__":
+    main()
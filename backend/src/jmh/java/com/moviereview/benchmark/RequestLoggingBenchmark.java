@@ -0,0 +1,115 @@
+package com.moviereview.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.moviereview.util.LogText;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the per-request log line under many concurrent request threads, before and after the
+ * move to SLF4J: the old System.out.println of the full review text against the same line through
+ * a synchronous appender, the async appender from logback-spring.xml, and a disabled DEBUG statement
+ * (the default, since request lines are DEBUG). Output goes to a discarding stream so the numbers
+ * show lock contention and formatting, not the terminal.
+ *
+ * Run with: mvn -Pjmh compile exec:exec -Djmh.args=RequestLoggingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(64)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestLoggingBenchmark {
+
+    // Fields rather than constants, so the concatenation is not folded at compile time
+    private String movieId = "shawshank";
+    private String reviewText = "An absolutely stunning film with brilliant acting, a moving score "
+            + "and a story that stays with you long after the credits roll. The pacing never drags.";
+
+    @Param({"println", "sync", "async", "debug-disabled"})
+    private String mode;
+
+    private boolean println;
+    private PrintStream console;
+    private LoggerContext loggerContext;
+    private Logger logger;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        println = "println".equals(mode);
+        // Like System.out: a buffered stream that flushes on every println, behind the PrintStream lock
+        console = new PrintStream(new BufferedOutputStream(OutputStream.nullOutputStream(), 8192), true);
+
+        loggerContext = new LoggerContext();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        // logging.pattern.console
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss} [%thread] %-5level %logger{36} - %msg%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> streamAppender = new OutputStreamAppender<>();
+        streamAppender.setContext(loggerContext);
+        streamAppender.setEncoder(encoder);
+        streamAppender.setOutputStream(new BufferedOutputStream(OutputStream.nullOutputStream(), 8192));
+        streamAppender.start();
+
+        Appender<ILoggingEvent> appender = streamAppender;
+        if ("async".equals(mode)) {
+            // Same settings as ASYNC_CONSOLE in logback-spring.xml
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(loggerContext);
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setDiscardingThreshold(0);
+            asyncAppender.setNeverBlock(true);
+            asyncAppender.setIncludeCallerData(false);
+            asyncAppender.addAppender(streamAppender);
+            asyncAppender.start();
+            appender = asyncAppender;
+        }
+
+        logger = loggerContext.getLogger("com.moviereview.controller.ReviewController");
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        logger.setLevel("debug-disabled".equals(mode) ? ch.qos.logback.classic.Level.INFO : ch.qos.logback.classic.Level.DEBUG);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        loggerContext.stop();
+        console.close();
+    }
+
+    @Benchmark
+    public void submitGetLogLine() {
+        if (println) {
+            console.println("📝 GET /api/reviews/submit-get - Movie: " + movieId + ", Text: " + reviewText);
+        } else {
+            logger.debug("GET /api/reviews/submit-get - Movie: {}, Text: {}", movieId, LogText.summarize(reviewText));
+        }
+    }
+}
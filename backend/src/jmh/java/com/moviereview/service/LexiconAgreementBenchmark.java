@@ -0,0 +1,106 @@
+package com.moviereview.service;
+
+import com.moviereview.service.ModelServerService.SentimentResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Offline comparison of the fallback lexicon analyzer with stored model server results: on setup
+ * it prints how often the sentiment labels agree, the mean rating difference and the confusion
+ * counts, and the benchmark measures the time per analysis over the same texts.
+ *
+ * Reads tab-separated sentiment, rating and review text, one review per line, exported from a
+ * database holding model-scored reviews:
+ *     psql -At -F $'\t' -c "SELECT sentiment, rating, regexp_replace(review_text, '[\t\r\n]', ' ', 'g')
+ *         FROM reviews WHERE sentiment IS NOT NULL AND sentiment <> 'pending'
+ *         AND (sentiment_engine IS NULL OR sentiment_engine = 'textblob')
+ *         ORDER BY created_at DESC, id DESC LIMIT 5000" > model-scored.tsv
+ *
+ * Run with: mvn -Pjmh compile exec:exec -Djmh.args="LexiconAgreementBenchmark -p reviews=$PWD/model-scored.tsv"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LexiconAgreementBenchmark {
+
+    @Param("model-scored.tsv")
+    private String reviews;
+
+    private LexiconSentimentAnalyzer analyzer;
+    private String[] texts;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        analyzer = new LexiconSentimentAnalyzer();
+        analyzer.loadLexicon();
+
+        List<String[]> rows = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(Path.of(reviews), StandardCharsets.UTF_8)) {
+                String[] fields = line.split("\t", 3);
+                if (fields.length == 3) {
+                    rows.add(fields);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read exported reviews " + reviews, e);
+        }
+        if (rows.isEmpty()) {
+            throw new IllegalStateException("No reviews in " + reviews);
+        }
+
+        int agreed = 0;
+        int rated = 0;
+        double ratingErrorSum = 0;
+        Map<String, Integer> confusion = new TreeMap<>();
+        texts = new String[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            String[] row = rows.get(i);
+            texts[i] = row[2];
+            SentimentResult result = analyzer.analyze(row[2]);
+            if (result.getSentiment().equals(row[0])) {
+                agreed++;
+            }
+            if (!row[1].isEmpty()) {
+                rated++;
+                ratingErrorSum += Math.abs(result.getRating() - Double.parseDouble(row[1]));
+            }
+            confusion.merge(row[0] + "->" + result.getSentiment(), 1, Integer::sum);
+        }
+
+        System.out.printf("%nsamples: %d, sentiment agreement: %.3f, mean rating error: %.3f%nconfusion (model->lexicon): %s%n",
+                texts.length, (double) agreed / texts.length, rated > 0 ? ratingErrorSum / rated : 0.0, confusion);
+    }
+
+    @Benchmark
+    public SentimentResult analyze() {
+        String text = texts[next];
+        next = next + 1 == texts.length ? 0 : next + 1;
+        return analyzer.analyze(text);
+    }
+}
@@ -0,0 +1,113 @@
+package com.moviereview.service;
+
+import com.moviereview.entity.Review;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the in-memory review search index, offline, on the same synthetic reviews that
+ * database/benchmarks/review_search.sql runs through a PostgreSQL GIN index: a 20,000-word
+ * vocabulary with a roughly Zipf word distribution, 20 to 49 words per review, 1000 movies. The
+ * fixed queries are the SQL script's four; sampledQuery cycles through random one- and two-term
+ * queries drawn from the index vocabulary. Sample-time mode reports p50/p99 per query kind.
+ *
+ * Run with: mvn -Pjmh compile exec:exec -Djmh.args="ReviewSearchIndexBenchmark -p rows=1000000"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ReviewSearchIndexBenchmark {
+
+    private static final int VOCABULARY = 20_000;
+
+    @Param("1000000")
+    private int rows;
+
+    @Param("20")
+    private int limit;
+
+    private ReviewSearchIndex index;
+    private String[] queries;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        // What Spring would inject; seeded up front so reviews go straight into the index
+        index = new ReviewSearchIndex();
+        set("meterRegistry", new SimpleMeterRegistry());
+        set("enabled", true);
+        set("seeded", true);
+        index.registerMetrics();
+
+        String[] sentiments = {"positive", "negative", "neutral"};
+        Random random = new Random(42);
+        StringBuilder text = new StringBuilder();
+        for (int i = 1; i <= rows; i++) {
+            text.setLength(0);
+            for (int word = 0, words = 20 + i % 30; word < words; word++) {
+                if (word > 0) {
+                    text.append(' ');
+                }
+                text.append('w').append((int) Math.floor(Math.exp(random.nextDouble() * Math.log(VOCABULARY))));
+            }
+            Review review = new Review("search-bench-" + (i % 1000), text.toString(), sentiments[i % 3], 0.0, 3.0);
+            review.setId((long) i);
+            index.recordReview(review);
+        }
+
+        List<String> sample = index.sampleQueries(10_000, 42);
+        queries = sample.toArray(new String[0]);
+    }
+
+    private void set(String name, Object value) throws ReflectiveOperationException {
+        Field field = ReviewSearchIndex.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(index, value);
+    }
+
+    @Benchmark
+    public ReviewSearchIndex.SearchResult rareTerm() {
+        return index.search("w15000", null, null, limit);
+    }
+
+    @Benchmark
+    public ReviewSearchIndex.SearchResult commonTerm() {
+        return index.search("w2", null, null, limit);
+    }
+
+    @Benchmark
+    public ReviewSearchIndex.SearchResult twoTerms() {
+        return index.search("w2 w500", null, null, limit);
+    }
+
+    @Benchmark
+    public ReviewSearchIndex.SearchResult twoTermsInMovieAndSentiment() {
+        return index.search("w2 w500", "search-bench-42", "positive", limit);
+    }
+
+    @Benchmark
+    public ReviewSearchIndex.SearchResult sampledQuery() {
+        String query = queries[next];
+        next = next + 1 == queries.length ? 0 : next + 1;
+        return index.search(query, null, null, limit);
+    }
+}
@@ -0,0 +1,62 @@
+package com.moviereview.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.DeferredResultProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.Callable;
+
+@Configuration
+public class AsyncTimeoutConfig implements WebMvcConfigurer {
+
+    // spring.mvc.async.request-timeout covers ordinary async responses (reactive submissions);
+    // long-lived streams (StreamingResponseBody, server-sent events) set their own timeout on the
+    // request before returning the response body
+
+    private static final String TIMEOUT_ATTRIBUTE = AsyncTimeoutConfig.class.getName() + ".timeout";
+
+    /**
+     * Give this request's async response its own timeout in ms (0 or less: none) instead of the default
+     */
+    public static void setAsyncTimeout(HttpServletRequest request, long timeoutMs) {
+        request.setAttribute(TIMEOUT_ATTRIBUTE, timeoutMs);
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        RequestTimeoutInterceptor interceptor = new RequestTimeoutInterceptor();
+        configurer.registerCallableInterceptors(interceptor);
+        // Reactive and emitter bodies (e.g. a Flux of server-sent events) are DeferredResult-based
+        configurer.registerDeferredResultInterceptors(interceptor);
+    }
+
+    /**
+     * Applies the request's own timeout just before the async context is started
+     */
+    static class RequestTimeoutInterceptor implements CallableProcessingInterceptor, DeferredResultProcessingInterceptor {
+
+        @Override
+        public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+            applyTimeout(request);
+        }
+
+        @Override
+        public <T> void beforeConcurrentHandling(NativeWebRequest request, DeferredResult<T> deferredResult) {
+            applyTimeout(request);
+        }
+
+        static void applyTimeout(NativeWebRequest request) {
+            if (request instanceof AsyncWebRequest asyncRequest
+                    && request.getAttribute(TIMEOUT_ATTRIBUTE, NativeWebRequest.SCOPE_REQUEST) instanceof Long timeoutMs) {
+                // The servlet container treats a timeout of zero or less as no timeout
+                asyncRequest.setTimeout(timeoutMs > 0 ? timeoutMs : -1L);
+            }
+        }
+    }
+}
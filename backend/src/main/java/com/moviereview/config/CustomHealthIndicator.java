@@ -1,6 +1,9 @@
 package com.moviereview.config;
 
 import com.moviereview.service.AdminService;
+import com.moviereview.service.HealthProbeService;
+import com.moviereview.service.HealthProbeService.HealthSnapshot;
+import com.moviereview.service.SchemaMigrationService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
@@ -16,14 +19,40 @@ public class CustomHealthIndicator implements HealthIndicator {
     @Autowired
     private AdminService adminService;
 
+    @Autowired
+    private HealthProbeService healthProbeService;
+
+    @Autowired
+    private SchemaMigrationService schemaMigrations;
+
     @Override
     public Health health() {
+        // Dependency status comes from the background prober's snapshot, never a live probe
+        HealthSnapshot snapshot = healthProbeService.getSnapshot();
+
         // Check if admin has marked the backend as unhealthy
         if (!adminService.isBackendHealthy()) {
             return Health.down()
                     .withDetail("reason", "Backend marked as unhealthy via admin toggle")
                     .withDetail("service", "backend")
                     .withDetail("admin_status", "unhealthy")
+                    .withDetail("database", snapshot.isDatabaseUp())
+                    .withDetail("modelServer", snapshot.isModelServerUp())
+                    .withDetail("checkedAt", snapshot.getCheckedAt().toString())
+                    .withDetail("ageMs", snapshot.getAgeMillis())
+                    .build();
+        }
+
+        // A migration that failed after startup needs a fix and a restart, which then fails loudly
+        if (SchemaMigrationService.STATE_FAILED.equals(schemaMigrations.getState())) {
+            return Health.down()
+                    .withDetail("reason", "Database schema migration failed")
+                    .withDetail("service", "backend")
+                    .withDetail("schema", schemaMigrations.getState())
+                    .withDetail("database", snapshot.isDatabaseUp())
+                    .withDetail("modelServer", snapshot.isModelServerUp())
+                    .withDetail("checkedAt", snapshot.getCheckedAt().toString())
+                    .withDetail("ageMs", snapshot.getAgeMillis())
                     .build();
         }
 
@@ -32,6 +61,11 @@ public class CustomHealthIndicator implements HealthIndicator {
                 .withDetail("service", "backend")
                 .withDetail("admin_status", "healthy")
                 .withDetail("message", "Backend is healthy")
+                .withDetail("schema", schemaMigrations.getState())
+                .withDetail("database", snapshot.isDatabaseUp())
+                .withDetail("modelServer", snapshot.isModelServerUp())
+                .withDetail("checkedAt", snapshot.getCheckedAt().toString())
+                .withDetail("ageMs", snapshot.getAgeMillis())
                 .build();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,98 @@
+package com.moviereview.config;
+
+import io.netty.channel.ChannelOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * HTTP client for the model server.
+ *
+ * Uses a dedicated, bounded Reactor Netty connection pool so connections to the model server
+ * are kept alive and reused, a burst of submissions waits (briefly) for a pooled connection
+ * instead of opening hundreds of sockets, and pool usage is published as reactor.netty.* metrics.
+ */
+@Configuration
+public class ModelClientConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ModelClientConfig.class);
+
+    @Value("${model.server.url}")
+    private String modelServerUrl;
+
+    @Value("${model.client.pool.max-connections:100}")
+    private int maxConnections;
+
+    @Value("${model.client.pool.pending-acquire-max-count:500}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${model.client.pool.pending-acquire-timeout-ms:1000}")
+    private long pendingAcquireTimeoutMs;
+
+    @Value("${model.client.pool.max-idle-time-ms:20000}")
+    private long maxIdleTimeMs;
+
+    @Value("${model.client.pool.max-life-time-ms:300000}")
+    private long maxLifeTimeMs;
+
+    @Value("${model.client.pool.evict-interval-ms:30000}")
+    private long evictIntervalMs;
+
+    @Value("${model.client.connect-timeout-ms:1000}")
+    private int connectTimeoutMs;
+
+    @Value("${model.client.response-timeout-ms:10000}")
+    private long responseTimeoutMs;
+
+    @Value("${model.client.max-in-memory-size:262144}")
+    private int maxInMemorySize;
+
+    @Value("${model.client.http2:false}")
+    private boolean http2;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider modelServerConnectionProvider() {
+        return ConnectionProvider.builder("model-server")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .maxLifeTime(Duration.ofMillis(maxLifeTimeMs))
+                .evictInBackground(Duration.ofMillis(evictIntervalMs))
+                // Most recently used first, so idle connections beyond the working set age out
+                .lifo()
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient webClient(WebClient.Builder builder, ConnectionProvider modelServerConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(modelServerConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs))
+                .metrics(true, uri -> uri);
+
+        if (http2) {
+            // Prior-knowledge cleartext HTTP/2: one multiplexed connection instead of a pool of HTTP/1.1 ones
+            httpClient = httpClient.protocol(HttpProtocol.H2C);
+        }
+
+        log.info("Model server client: {} (pool: {} connections, {})", modelServerUrl, maxConnections, http2 ? "h2c" : "HTTP/1.1");
+        return builder
+                .baseUrl(modelServerUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(maxInMemorySize))
+                .build();
+    }
+}
@@ -32,6 +32,7 @@ public class SecurityConfig {
                 .requestMatchers("/api/reviews/**").permitAll()
                 .requestMatchers("/actuator/health").permitAll()
                 .requestMatchers("/actuator/info").permitAll()
+                .requestMatchers("/actuator/prometheus").permitAll()
                 .anyRequest().permitAll()
             )
             
@@ -47,9 +48,13 @@ public class SecurityConfig {
                     response.setHeader("X-Content-Type-Options", "nosniff");
                     response.setHeader("X-XSS-Protection", "1; mode=block");
                     response.setHeader("X-Frame-Options", "DENY");
-                    response.setHeader("Cache-Control", "no-cache, no-store, must-revalidate");
-                    response.setHeader("Pragma", "no-cache");
-                    response.setHeader("Expires", "0");
+                    // Written when the response is committed; endpoints that set their own caching
+                    // policy (the ETag-tagged review reads) keep it, everything else is not cached
+                    if (!response.containsHeader("Cache-Control")) {
+                        response.setHeader("Cache-Control", "no-cache, no-store, must-revalidate");
+                        response.setHeader("Pragma", "no-cache");
+                        response.setHeader("Expires", "0");
+                    }
                     response.setHeader("Referrer-Policy", "strict-origin-when-cross-origin");
                 })
             );
@@ -1,6 +1,8 @@
 package com.moviereview.controller;
 
 import com.moviereview.service.AdminService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -12,6 +14,8 @@ import java.util.Map;
 @RequestMapping("/api/admin")
 public class AdminController {
 
+    private static final Logger log = LoggerFactory.getLogger(AdminController.class);
+
     @Autowired
     private AdminService adminService;
 
@@ -27,7 +31,7 @@ public class AdminController {
             return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(healthStatus);
         }
         
-        System.out.println("🏥 Health check: " + healthStatus.get("status"));
+        log.debug("Health check: {}", healthStatus.get("status"));
         return ResponseEntity.ok(healthStatus);
     }
 
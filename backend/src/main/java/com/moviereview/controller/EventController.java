@@ -0,0 +1,93 @@
+package com.moviereview.controller;
+
+import com.moviereview.config.AsyncTimeoutConfig;
+import com.moviereview.entity.Review;
+import com.moviereview.service.AdminService;
+import com.moviereview.service.EventBroadcaster;
+import com.moviereview.service.EventBroadcaster.SubscriberLimitException;
+import com.moviereview.service.ReviewService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+@RestController
+@RequestMapping("/api/events")
+@CrossOrigin(origins = "*")
+public class EventController {
+
+    private static final Logger log = LoggerFactory.getLogger(EventController.class);
+
+    @Autowired
+    private EventBroadcaster eventBroadcaster;
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Value("${events.stream-timeout-ms:1800000}")
+    private long streamTimeoutMs;
+
+    @Value("${events.retry-after-seconds:30}")
+    private long retryAfterSeconds;
+
+    /**
+     * Server-sent event stream: the current health first, then "review" events for every saved
+     * (or newly scored) review and "health" events whenever the health status changes. A client
+     * reconnecting with the ID of the last review event it got (the Last-Event-ID header, or the
+     * lastEventId parameter for a new EventSource) is first sent the reviews saved since then
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> streamEvents(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(value = "lastEventId", required = false) String lastEventIdParam,
+            HttpServletRequest request) {
+        try {
+            Long lastEventId = parseEventId(lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam);
+            Supplier<List<Review>> missed = lastEventId != null
+                    ? () -> reviewService.getReviewsSince(lastEventId)
+                    : List::of;
+            Flux<ServerSentEvent<String>> events =
+                    eventBroadcaster.subscribe(EventBroadcaster.EVENT_HEALTH, adminService.getHealthStatus(), missed);
+            // Ends the stream after a while so no connection is held forever; the client reconnects
+            // after the retry interval and resumes from its last event ID
+            AsyncTimeoutConfig.setAsyncTimeout(request, streamTimeoutMs);
+            log.debug("GET /api/events - subscribed, last event ID: {}", lastEventId);
+            return ResponseEntity.ok()
+                    .header("X-Accel-Buffering", "no") // Keep nginx ingress from buffering the stream
+                    .body(events);
+        } catch (SubscriberLimitException e) {
+            log.warn("Event subscription refused: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    private static Long parseEventId(String eventId) {
+        if (eventId == null || eventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(eventId.trim());
+        } catch (NumberFormatException e) {
+            // Not a review event ID; nothing to replay
+            return null;
+        }
+    }
+}
@@ -2,19 +2,40 @@ package com.moviereview.controller;
 
 import com.moviereview.entity.Review;
 import com.moviereview.service.ReviewService;
+import com.moviereview.service.ReviewService.ReviewPage;
 import com.moviereview.service.ReviewService.ReviewSubmissionResult;
 import com.moviereview.service.ReviewService.DatabaseException;
 import com.moviereview.service.ReviewService.ReviewSubmissionException;
 import com.moviereview.service.AdminService;
+import com.moviereview.service.HealthProbeService;
+import com.moviereview.service.ReviewRevisions;
+import com.moviereview.service.ReviewTrendService;
+import com.moviereview.config.AsyncTimeoutConfig;
+import com.moviereview.util.LogText;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import jakarta.servlet.http.HttpServletRequest;
 import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.StringBuilder;
 
 @RestController
@@ -22,38 +43,253 @@ import java.lang.StringBuilder;
 @CrossOrigin(origins = "*")
 public class ReviewController {
 
+    private static final Logger log = LoggerFactory.getLogger(ReviewController.class);
+
     @Autowired
     private ReviewService reviewService;
 
     @Autowired
     private AdminService adminService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReviewRevisions reviewRevisions;
+
+    @Autowired
+    private HealthProbeService healthProbeService;
+
+    @Autowired
+    private ReviewTrendService reviewTrendService;
+
+    @Value("${review.http-cache.max-age-seconds:5}")
+    private long cacheMaxAgeSeconds;
+
+    @Value("${review.stream.timeout-ms:600000}")
+    private long streamTimeoutMs;
+
+    /**
+     * Conditional GET: answer 304 if the client already has this revision, otherwise build the
+     * response and tag it. The tag is taken before the body is read, so a review saved in between
+     * can only make the tag older than the body, which costs a refetch but never serves stale data.
+     */
+    private ResponseEntity<?> conditionalGet(String ifNoneMatch, String etag, Supplier<ResponseEntity<?>> response) {
+        CacheControl cacheControl = CacheControl.maxAge(cacheMaxAgeSeconds, TimeUnit.SECONDS).mustRevalidate();
+        if (matchesAny(ifNoneMatch, etag)) {
+            reviewRevisions.recordNotModified();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+
+        ResponseEntity<?> built = response.get();
+        if (!built.getStatusCode().is2xxSuccessful()) {
+            return built;
+        }
+        return ResponseEntity.status(built.getStatusCode()).eTag(etag).cacheControl(cacheControl).body(built.getBody());
+    }
+
+    /**
+     * If-None-Match uses weak comparison: W/ prefixes are ignored and "*" matches anything
+     */
+    private static boolean matchesAny(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Get all reviews for a specific movie
      */
     @GetMapping("/{movieId}")
-    public ResponseEntity<?> getReviewsByMovieId(@PathVariable String movieId) {
+    public ResponseEntity<?> getReviewsByMovieId(@PathVariable String movieId,
+                                                 @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         // Check if backend is healthy
         if (!adminService.isBackendHealthy()) {
             return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
                     .body(Map.of("error", "Backend service is unhealthy"));
         }
+        // Review history is read from the database, so a simulated outage must still answer 503
+        if (!reviewService.isDatabaseConnectionEnabled()) {
+            return fetchReviewsByMovieId(movieId);
+        }
 
+        return conditionalGet(ifNoneMatch, reviewRevisions.movieTag(movieId), () -> fetchReviewsByMovieId(movieId));
+    }
+
+    private ResponseEntity<?> fetchReviewsByMovieId(String movieId) {
         try {
-            System.out.println("📋 GET /api/reviews/" + movieId);
+            log.debug("GET /api/reviews/{}", movieId);
             List<Review> reviews = reviewService.getReviewsByMovieId(movieId);
             return ResponseEntity.ok(reviews);
         } catch (DatabaseException e) {
-            System.err.println("❌ Database error: " + e.getMessage());
+            log.warn("Database error: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Unexpected error: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Internal server error"));
+        }
+    }
+
+    /**
+     * Get the latest reviews and statistics for several movies in one request
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<?> getReviewsForMovies(
+            @RequestParam List<String> movieIds,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (!adminService.isBackendHealthy()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", "Backend service is unhealthy"));
+        }
+
+        try {
+            log.debug("GET /api/reviews/batch - Movies: {}", movieIds.size());
+            return ResponseEntity.ok(reviewService.getReviewsForMovies(movieIds, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+        } catch (DatabaseException e) {
+            log.warn("Database error: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Unexpected error: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Internal server error"));
+        }
+    }
+
+    /**
+     * Full-text search over review text, best match first; movieId and sentiment narrow the results
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> searchReviews(
+            @RequestParam String q,
+            @RequestParam(required = false) String movieId,
+            @RequestParam(required = false) String sentiment,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (!adminService.isBackendHealthy()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", "Backend service is unhealthy"));
+        }
+
+        try {
+            log.debug("GET /api/reviews/search - Query: {}", q);
+            return ResponseEntity.ok(reviewService.searchReviews(q, movieId, sentiment, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+        } catch (DatabaseException e) {
+            log.warn("Database error: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
                     .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
-            System.err.println("❌ Unexpected error: " + e.getMessage());
+            log.error("Unexpected error: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "Internal server error"));
         }
     }
 
+    /**
+     * Get one page of review history for a movie (keyset pagination, newest first)
+     */
+    @GetMapping("/{movieId}/history")
+    public ResponseEntity<?> getReviewHistory(
+            @PathVariable String movieId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (!adminService.isBackendHealthy()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", "Backend service is unhealthy"));
+        }
+
+        try {
+            log.debug("GET /api/reviews/{}/history", movieId);
+            ReviewPage page = reviewService.getReviewHistory(movieId, cursor, limit);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+        } catch (DatabaseException e) {
+            log.warn("Database error: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Unexpected error: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Internal server error"));
+        }
+    }
+
+    /**
+     * Stream every review for a movie as a JSON array, written row by row from a database cursor.
+     * The last element is a marker ({"complete": true, "count": n}); the headers are committed
+     * before the rows are read, so a failure part-way is reported by a marker with
+     * "complete": false, and an array without a marker was cut off.
+     */
+    @GetMapping("/{movieId}/stream")
+    public ResponseEntity<StreamingResponseBody> streamReviews(@PathVariable String movieId, HttpServletRequest request) {
+        if (!adminService.isBackendHealthy()) {
+            return streamError(HttpStatus.SERVICE_UNAVAILABLE, "Backend service is unhealthy");
+        }
+        if (!reviewService.isDatabaseConnectionEnabled()) {
+            return streamError(HttpStatus.SERVICE_UNAVAILABLE, "Database connection is disabled - review history is not available");
+        }
+
+        log.debug("GET /api/reviews/{}/stream", movieId);
+        // Large movies take longer than the default async timeout to write out
+        AsyncTimeoutConfig.setAsyncTimeout(request, streamTimeoutMs);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                AtomicLong count = new AtomicLong();
+                String error = null;
+                try {
+                    reviewService.streamReviewsByMovieId(movieId, review -> {
+                        try {
+                            generator.writeObject(review);
+                            count.incrementAndGet();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                } catch (DatabaseException e) {
+                    error = e.getMessage();
+                }
+                if (error != null) {
+                    log.warn("Review stream for movie {} failed after {} reviews: {}", movieId, count.get(), error);
+                    generator.writeObject(Map.of("complete", false, "count", count.get(), "error", error));
+                } else {
+                    generator.writeObject(Map.of("complete", true, "count", count.get()));
+                }
+                generator.writeEndArray();
+            } catch (Exception e) {
+                // Nothing more can be written (client gone or timed out); without the final marker
+                // the client can tell the array is incomplete
+                log.warn("Review stream aborted: {}", e.getMessage());
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    private ResponseEntity<StreamingResponseBody> streamError(HttpStatus status, String message) {
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(outputStream -> objectMapper.writeValue(outputStream, Map.of("error", message)));
+    }
+
     /**
      * Submit a new review - DISABLED due to proxy compatibility issues
      */
@@ -69,7 +305,7 @@ public class ReviewController {
             String movieId = request.get("movieId");
             String reviewText = request.get("reviewText");
 
-            System.out.println("📝 POST /api/reviews/legacy - Movie: " + movieId);
+            log.debug("POST /api/reviews/legacy - Movie: {}", movieId);
 
             // Validate input
             if (movieId == null || movieId.trim().isEmpty()) {
@@ -83,31 +319,18 @@ public class ReviewController {
 
             ReviewSubmissionResult result = reviewService.submitReview(movieId, reviewText);
 
-            if (result.isSuccess()) {
-                return ResponseEntity.ok(Map.of(
-                    "review", result.getReview(),
-                    "message", result.getMessage()
-                ));
-            } else {
-                // Review was analyzed but not saved (database issue)
-                return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
-                        .body(Map.of(
-                            "review", result.getReview(),
-                            "message", result.getMessage(),
-                            "warning", "Review analysis completed but storage failed"
-                        ));
-            }
+            return toSubmissionResponse(result);
 
         } catch (ReviewSubmissionException e) {
             // Model server is down - reject the review
-            System.err.println("❌ Review submission failed: " + e.getMessage());
+            log.warn("Review submission failed: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
                     .body(Map.of("error", e.getMessage()));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
                     .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
-            System.err.println("❌ Unexpected error during review submission: " + e.getMessage());
+            log.error("Unexpected error during review submission: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "Internal server error"));
         }
@@ -167,11 +390,11 @@ public class ReviewController {
                         }
                     }
                 } catch (Exception e) {
-                    System.err.println("❌ Failed to manually parse request body: " + e.getMessage());
+                    log.warn("Failed to manually parse request body: {}", e.getMessage());
                 }
             }
 
-            System.out.println("📝 POST /api/reviews - Movie: " + finalMovieId);
+            log.debug("POST /api/reviews - Movie: {}", finalMovieId);
 
             // Validate input
             if (finalMovieId == null || finalMovieId.trim().isEmpty()) {
@@ -185,31 +408,18 @@ public class ReviewController {
 
             ReviewSubmissionResult result = reviewService.submitReview(finalMovieId, finalReviewText);
 
-            if (result.isSuccess()) {
-                return ResponseEntity.ok(Map.of(
-                    "review", result.getReview(),
-                    "message", result.getMessage()
-                ));
-            } else {
-                // Review was analyzed but not saved (database issue)
-                return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
-                        .body(Map.of(
-                            "review", result.getReview(),
-                            "message", result.getMessage(),
-                            "warning", "Review analysis completed but storage failed"
-                        ));
-            }
+            return toSubmissionResponse(result);
 
         } catch (ReviewSubmissionException e) {
             // Model server is down - reject the review
-            System.err.println("❌ Review submission failed: " + e.getMessage());
+            log.warn("Review submission failed: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
                     .body(Map.of("error", e.getMessage()));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
                     .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
-            System.err.println("❌ Unexpected error during review submission: " + e.getMessage());
+            log.error("Unexpected error during review submission: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "Internal server error"));
         }
@@ -269,11 +479,11 @@ public class ReviewController {
                         }
                     }
                 } catch (Exception e) {
-                    System.err.println("❌ Failed to manually parse request body: " + e.getMessage());
+                    log.warn("Failed to manually parse request body: {}", e.getMessage());
                 }
             }
 
-            System.out.println("📝 POST /api/reviews/submit - Movie: " + finalMovieId);
+            log.debug("POST /api/reviews/submit - Movie: {}", finalMovieId);
 
             // Validate input
             if (finalMovieId == null || finalMovieId.trim().isEmpty()) {
@@ -287,31 +497,18 @@ public class ReviewController {
 
             ReviewSubmissionResult result = reviewService.submitReview(finalMovieId, finalReviewText);
 
-            if (result.isSuccess()) {
-                return ResponseEntity.ok(Map.of(
-                    "review", result.getReview(),
-                    "message", result.getMessage()
-                ));
-            } else {
-                // Review was analyzed but not saved (database issue)
-                return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
-                        .body(Map.of(
-                            "review", result.getReview(),
-                            "message", result.getMessage(),
-                            "warning", "Review analysis completed but storage failed"
-                        ));
-            }
+            return toSubmissionResponse(result);
 
         } catch (ReviewSubmissionException e) {
             // Model server is down - reject the review
-            System.err.println("❌ Review submission failed: " + e.getMessage());
+            log.warn("Review submission failed: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
                     .body(Map.of("error", e.getMessage()));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
                     .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
-            System.err.println("❌ Unexpected error during review submission: " + e.getMessage());
+            log.error("Unexpected error during review submission: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "Internal server error"));
         }
@@ -332,7 +529,7 @@ public class ReviewController {
         }
 
         try {
-            System.out.println("📝 GET /api/reviews/submit-get - Movie: " + movieId + ", Text: " + reviewText);
+            log.debug("GET /api/reviews/submit-get - Movie: {}, Text: {}", movieId, LogText.summarize(reviewText));
 
             // Validate input
             if (movieId == null || movieId.trim().isEmpty()) {
@@ -346,48 +543,135 @@ public class ReviewController {
 
             ReviewSubmissionResult result = reviewService.submitReview(movieId, reviewText);
 
-            if (result.isSuccess()) {
-                return ResponseEntity.ok(Map.of(
-                    "review", result.getReview(),
-                    "message", result.getMessage()
-                ));
-            } else {
-                // Review was analyzed but not saved (database issue)
-                return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
-                        .body(Map.of(
-                            "review", result.getReview(),
-                            "message", result.getMessage(),
-                            "warning", "Review analysis completed but storage failed"
-                        ));
-            }
+            return toSubmissionResponse(result);
 
         } catch (ReviewSubmissionException e) {
             // Model server is down - reject the review
-            System.err.println("❌ Review submission failed: " + e.getMessage());
+            log.warn("Review submission failed: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Unexpected error during review submission: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Internal server error"));
+        }
+    }
+
+    /**
+     * Submit a new review - Non-blocking endpoint; the request thread is released while the
+     * model call and database write are in flight
+     */
+    @PostMapping("/reactive")
+    public Mono<ResponseEntity<?>> submitReviewReactive(
+            @RequestParam(required = false) String movieId,
+            @RequestParam(required = false) String reviewText,
+            @RequestBody(required = false) Map<String, String> requestBody) {
+
+        // Check if backend is healthy
+        if (!adminService.isBackendHealthy()) {
+            return Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", "Backend service is unhealthy")));
+        }
+
+        String finalMovieId = movieId;
+        String finalReviewText = reviewText;
+        if (requestBody != null && !requestBody.isEmpty()) {
+            finalMovieId = requestBody.getOrDefault("movieId", movieId);
+            finalReviewText = requestBody.getOrDefault("reviewText", reviewText);
+        }
+
+        log.debug("POST /api/reviews/reactive - Movie: {}", finalMovieId);
+
+        return reviewService.submitReviewAsync(finalMovieId, finalReviewText)
+                .<ResponseEntity<?>>map(this::toSubmissionResponse)
+                .onErrorResume(ReviewSubmissionException.class, e -> {
+                    log.warn("Review submission failed: {}", e.getMessage());
+                    return Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                            .body(Map.of("error", e.getMessage())));
+                })
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest()
+                        .body(Map.of("error", e.getMessage()))))
+                .onErrorResume(e -> {
+                    log.error("Unexpected error during review submission: {}", e.getMessage());
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(Map.of("error", "Internal server error")));
+                });
+    }
+
+    /**
+     * Submit many reviews at once - analyzed concurrently and inserted with JDBC batching
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<?> submitReviewsBulk(@RequestBody List<Map<String, String>> requests) {
+        // Check if backend is healthy
+        if (!adminService.isBackendHealthy()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", "Backend service is unhealthy"));
+        }
+
+        try {
+            log.debug("POST /api/reviews/bulk - {} reviews", requests.size());
+            List<Review> reviews = reviewService.submitReviewsBulk(requests);
+            return ResponseEntity.ok(Map.of(
+                "reviews", reviews,
+                "count", reviews.size(),
+                "message", "Reviews submitted successfully"
+            ));
+        } catch (ReviewSubmissionException | DatabaseException e) {
+            log.warn("Bulk review submission failed: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
                     .body(Map.of("error", e.getMessage()));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
                     .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
-            System.err.println("❌ Unexpected error during review submission: " + e.getMessage());
+            log.error("Unexpected error during bulk review submission: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "Internal server error"));
         }
     }
 
+    /**
+     * Build the response for a submission - 200 when saved, 206 when analyzed but not stored
+     */
+    private ResponseEntity<?> toSubmissionResponse(ReviewSubmissionResult result) {
+        if (result.isSuccess()) {
+            return ResponseEntity.ok(Map.of(
+                "review", result.getReview(),
+                "message", result.getMessage()
+            ));
+        } else {
+            // Review was analyzed but not saved (database issue)
+            return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                    .body(Map.of(
+                        "review", result.getReview(),
+                        "message", result.getMessage(),
+                        "warning", "Review analysis completed but storage failed"
+                    ));
+        }
+    }
+
     /**
      * Get review statistics
      */
     @GetMapping("/stats")
-    public ResponseEntity<?> getReviewStats() {
+    public ResponseEntity<?> getReviewStats(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         if (!adminService.isBackendHealthy()) {
             return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
                     .body(Map.of("error", "Backend service is unhealthy"));
         }
 
+        // The response also reports database availability, taken here from the background probe
+        boolean databaseUp = reviewService.isDatabaseConnectionEnabled() && healthProbeService.getSnapshot().isDatabaseUp();
+        return conditionalGet(ifNoneMatch, reviewRevisions.globalTag(databaseUp ? "-up" : "-down"), () -> fetchReviewStats(databaseUp));
+    }
+
+    private ResponseEntity<?> fetchReviewStats(boolean databaseUp) {
         try {
-            Map<String, Object> stats = reviewService.getReviewStats();
+            Map<String, Object> stats = reviewService.getReviewStats(databaseUp);
             return ResponseEntity.ok(stats);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -395,27 +679,92 @@ public class ReviewController {
         }
     }
 
+    /**
+     * Get aggregate statistics for a specific movie
+     */
+    @GetMapping("/{movieId}/stats")
+    public ResponseEntity<?> getMovieStats(@PathVariable String movieId,
+                                           @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (!adminService.isBackendHealthy()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", "Backend service is unhealthy"));
+        }
+
+        return conditionalGet(ifNoneMatch, reviewRevisions.movieTag(movieId), () -> fetchMovieStats(movieId));
+    }
+
+    private ResponseEntity<?> fetchMovieStats(String movieId) {
+        try {
+            return ResponseEntity.ok(reviewService.getMovieStats(movieId));
+        } catch (DatabaseException e) {
+            log.warn("Database error: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Unexpected error: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to get movie statistics"));
+        }
+    }
+
+    /**
+     * Get a movie's review count, mean rating and sentiment distribution per hour or day,
+     * served from pre-aggregated rollups
+     */
+    @GetMapping("/{movieId}/trend")
+    public ResponseEntity<?> getMovieTrend(
+            @PathVariable String movieId,
+            @RequestParam(defaultValue = "day") String bucket,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        if (!adminService.isBackendHealthy()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", "Backend service is unhealthy"));
+        }
+
+        try {
+            log.debug("GET /api/reviews/{}/trend - Bucket: {}", movieId, bucket);
+            return ResponseEntity.ok(reviewTrendService.getTrend(movieId, bucket, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+        } catch (DatabaseException e) {
+            log.warn("Database error: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Unexpected error: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to get review trend"));
+        }
+    }
+
     /**
      * Get latest reviews across all movies for homepage
      */
     @GetMapping("/latest")
-    public ResponseEntity<?> getLatestReviews() {
+    public ResponseEntity<?> getLatestReviews(@RequestParam(defaultValue = "5") int limit,
+                                              @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         // Check if backend is healthy
         if (!adminService.isBackendHealthy()) {
             return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
                     .body(Map.of("error", "Backend service is unhealthy"));
         }
 
+        return conditionalGet(ifNoneMatch, reviewRevisions.globalTag(""), () -> fetchLatestReviews(limit));
+    }
+
+    private ResponseEntity<?> fetchLatestReviews(int limit) {
         try {
-            System.out.println("📋 GET /api/reviews/latest");
-            List<Review> latestReviews = reviewService.getLatestReviews(5);
+            log.debug("GET /api/reviews/latest?limit={}", limit);
+            List<Review> latestReviews = reviewService.getLatestReviews(limit);
             return ResponseEntity.ok(latestReviews);
         } catch (DatabaseException e) {
-            System.err.println("❌ Database error: " + e.getMessage());
+            log.warn("Database error: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
                     .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
-            System.err.println("❌ Unexpected error: " + e.getMessage());
+            log.error("Unexpected error: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "Internal server error"));
         }
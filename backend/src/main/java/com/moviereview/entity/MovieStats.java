@@ -0,0 +1,102 @@
+package com.moviereview.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import java.time.LocalDateTime;
+
+/**
+ * Per-movie review aggregates from the movie_stats table. Rows are maintained by a database
+ * trigger on every write to reviews, so the backend only ever reads them.
+ */
+@Entity
+@Immutable
+@Table(name = "movie_stats")
+public class MovieStats {
+    
+    @Id
+    @Column(name = "movie_id")
+    private String movieId;
+    
+    @Column(name = "total_reviews", nullable = false)
+    private long totalReviews;
+    
+    @Column(name = "rating_sum", nullable = false)
+    private double ratingSum;
+    
+    @Column(name = "rating_count", nullable = false)
+    private long ratingCount;
+    
+    @Column(name = "sentiment_score_sum", nullable = false)
+    private double sentimentScoreSum;
+    
+    @Column(name = "sentiment_score_count", nullable = false)
+    private long sentimentScoreCount;
+    
+    @Column(name = "positive_reviews", nullable = false)
+    private long positiveReviews;
+    
+    @Column(name = "negative_reviews", nullable = false)
+    private long negativeReviews;
+    
+    @Column(name = "neutral_reviews", nullable = false)
+    private long neutralReviews;
+    
+    @Column(name = "latest_review")
+    private LocalDateTime latestReview;
+    
+    protected MovieStats() {
+    }
+    
+    public String getMovieId() {
+        return movieId;
+    }
+    
+    public long getTotalReviews() {
+        return totalReviews;
+    }
+    
+    public double getRatingSum() {
+        return ratingSum;
+    }
+    
+    public long getRatingCount() {
+        return ratingCount;
+    }
+    
+    public double getSentimentScoreSum() {
+        return sentimentScoreSum;
+    }
+    
+    public long getSentimentScoreCount() {
+        return sentimentScoreCount;
+    }
+    
+    public long getPositiveReviews() {
+        return positiveReviews;
+    }
+    
+    public long getNegativeReviews() {
+        return negativeReviews;
+    }
+    
+    public long getNeutralReviews() {
+        return neutralReviews;
+    }
+    
+    public LocalDateTime getLatestReview() {
+        return latestReview;
+    }
+    
+    @Override
+    public String toString() {
+        return "MovieStats{" +
+                "movieId='" + movieId + '\'' +
+                ", totalReviews=" + totalReviews +
+                ", ratingCount=" + ratingCount +
+                ", positiveReviews=" + positiveReviews +
+                ", negativeReviews=" + negativeReviews +
+                ", neutralReviews=" + neutralReviews +
+                ", latestReview=" + latestReview +
+                '}';
+    }
+}
@@ -8,14 +8,21 @@ import java.time.LocalDateTime;
 @Table(name = "reviews")
 public class Review {
     
+    // Column sizes, in characters; text that does not fit is rejected before it is analyzed or journaled
+    public static final int MAX_MOVIE_ID_LENGTH = 255;
+    public static final int MAX_REVIEW_TEXT_LENGTH = 2000;
+    
+    // Pooled sequence allocation (one nextval per 50 rows) keeps JDBC insert batching enabled;
+    // allocationSize must match the INCREMENT BY of reviews_id_seq
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reviews_id_seq")
+    @SequenceGenerator(name = "reviews_id_seq", sequenceName = "reviews_id_seq", allocationSize = 50)
     private Long id;
     
-    @Column(name = "movie_id", nullable = false)
+    @Column(name = "movie_id", nullable = false, length = MAX_MOVIE_ID_LENGTH)
     private String movieId;
     
-    @Column(name = "review_text", nullable = false, length = 2000)
+    @Column(name = "review_text", nullable = false, length = MAX_REVIEW_TEXT_LENGTH)
     private String reviewText;
     
     @Column(name = "sentiment")
@@ -27,6 +34,10 @@ public class Review {
     @Column(name = "rating")
     private Double rating;
     
+    // Which analyzer scored the review ("textblob" for the model server, "lexicon" for the fallback)
+    @Column(name = "sentiment_engine", length = 20)
+    private String sentimentEngine;
+    
     @Column(name = "created_at")
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime createdAt;
@@ -95,6 +106,14 @@ public class Review {
         this.rating = rating;
     }
     
+    public String getSentimentEngine() {
+        return sentimentEngine;
+    }
+    
+    public void setSentimentEngine(String sentimentEngine) {
+        this.sentimentEngine = sentimentEngine;
+    }
+    
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -112,6 +131,7 @@ public class Review {
                 ", sentiment='" + sentiment + '\'' +
                 ", sentimentScore=" + sentimentScore +
                 ", rating=" + rating +
+                ", sentimentEngine='" + sentimentEngine + '\'' +
                 ", createdAt=" + createdAt +
                 '}';
     }
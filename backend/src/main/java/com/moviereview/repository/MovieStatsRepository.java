@@ -0,0 +1,20 @@
+package com.moviereview.repository;
+
+import com.moviereview.entity.MovieStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Read access to the trigger-maintained movie_stats table; findById is a primary key
+ * lookup whose cost does not depend on how many reviews a movie has
+ */
+@Repository
+public interface MovieStatsRepository extends JpaRepository<MovieStats, String> {
+
+    /**
+     * Total reviews across all movies, summed over one movie_stats row per movie instead of counting reviews
+     */
+    @Query("SELECT COALESCE(SUM(s.totalReviews), 0) FROM MovieStats s")
+    long sumTotalReviews();
+}
@@ -0,0 +1,232 @@
+package com.moviereview.repository;
+
+import com.moviereview.entity.Review;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Plain JDBC access for review queries that JPA handles poorly, such as
+ * cursor-based streaming where the persistence context must not grow per row.
+ */
+@Repository
+public class ReviewJdbcRepository {
+
+    private static final String REVIEW_COLUMNS =
+            "id, movie_id, review_text, sentiment, sentiment_score, rating, sentiment_engine, created_at";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${review.stream.fetch-size:500}")
+    private int fetchSize;
+
+    // jdbc.repository.invocations timers by method and state, built once so each query only does a map lookup
+    private final Map<String, Timer> invocationTimers = new ConcurrentHashMap<>();
+
+    /**
+     * Stream a movie's reviews, newest first, one row at a time.
+     * Must run inside a transaction so the PostgreSQL driver uses a server-side cursor.
+     */
+    public void streamByMovieId(String movieId, Consumer<Review> consumer) {
+        String sql = "SELECT " + REVIEW_COLUMNS + " FROM reviews WHERE movie_id = ? ORDER BY created_at DESC, id DESC";
+        timed("streamByMovieId", () -> {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql);
+                statement.setFetchSize(fetchSize);
+                statement.setString(1, movieId);
+                return statement;
+            }, (RowCallbackHandler) rs -> consumer.accept(mapReview(rs)));
+            return null;
+        });
+    }
+
+    /**
+     * Stream every review in ID order, one row at a time (same transaction requirement as above)
+     */
+    public void streamAllById(Consumer<Review> consumer) {
+        String sql = "SELECT " + REVIEW_COLUMNS + " FROM reviews ORDER BY id";
+        timed("streamAllById", () -> {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql);
+                statement.setFetchSize(fetchSize);
+                return statement;
+            }, (RowCallbackHandler) rs -> consumer.accept(mapReview(rs)));
+            return null;
+        });
+    }
+
+    /**
+     * Reviews with the given IDs, in no particular order; missing IDs are skipped
+     */
+    public List<Review> findByIds(long[] ids) {
+        String sql = "SELECT " + REVIEW_COLUMNS + " FROM reviews WHERE id = ANY(?)";
+        Long[] boxed = new Long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            boxed[i] = ids[i];
+        }
+        return timed("findByIds", () -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setArray(1, connection.createArrayOf("bigint", boxed));
+            return statement;
+        }, (rs, rowNum) -> mapReview(rs)));
+    }
+
+    /**
+     * Latest reviews for each of the given movies, at most perMovie each, in a single windowed query.
+     * Rows come back grouped by movie, newest first within each movie.
+     */
+    public List<Review> findLatestByMovieIds(Collection<String> movieIds, int perMovie) {
+        String sql = "SELECT " + REVIEW_COLUMNS + " FROM (" +
+                "SELECT " + REVIEW_COLUMNS + ", ROW_NUMBER() OVER (PARTITION BY movie_id ORDER BY created_at DESC, id DESC) AS rn " +
+                "FROM reviews WHERE movie_id = ANY(?)) ranked " +
+                "WHERE rn <= ? ORDER BY movie_id, created_at DESC, id DESC";
+        return timed("findLatestByMovieIds", () -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setArray(1, connection.createArrayOf("varchar", movieIds.toArray()));
+            statement.setInt(2, perMovie);
+            return statement;
+        }, (rs, rowNum) -> mapReview(rs)));
+    }
+
+    /**
+     * Oldest reviews still waiting for sentiment analysis whose ID is above afterId (0: from the start)
+     */
+    public List<Review> findPendingSentiment(long afterId, int limit) {
+        String sql = "SELECT " + REVIEW_COLUMNS + " FROM reviews WHERE sentiment = 'pending' AND id > ? ORDER BY id LIMIT ?";
+        return timed("findPendingSentiment", () -> jdbcTemplate.query(sql, (rs, rowNum) -> mapReview(rs), afterId, limit));
+    }
+
+    /**
+     * Store analysis results for pending reviews in one JDBC batch. Rows that are no longer
+     * pending are left alone; the returned flags say which reviews were actually updated.
+     */
+    public boolean[] updatePendingSentiment(List<Review> reviews) {
+        String sql = "UPDATE reviews SET sentiment = ?, sentiment_score = ?, rating = ?, sentiment_engine = ? " +
+                "WHERE id = ? AND sentiment = 'pending'";
+        int[][] counts = timed("updatePendingSentiment", () -> jdbcTemplate.batchUpdate(sql, reviews, reviews.size(),
+                (statement, review) -> {
+                    statement.setString(1, review.getSentiment());
+                    statement.setObject(2, review.getSentimentScore());
+                    statement.setObject(3, review.getRating());
+                    statement.setString(4, review.getSentimentEngine());
+                    statement.setLong(5, review.getId());
+                }));
+        boolean[] updated = new boolean[reviews.size()];
+        for (int i = 0; i < reviews.size(); i++) {
+            // SUCCESS_NO_INFO (-2) means the driver did not report a count; assume the row was updated
+            int count = counts[0][i];
+            updated[i] = count > 0 || count == Statement.SUCCESS_NO_INFO;
+        }
+        return updated;
+    }
+
+    /**
+     * A movie's trend buckets starting in [from, to), oldest first, read from the trigger-maintained
+     * review_trend_buckets rollups (never from reviews). Daily buckets merge hourly rows of the same
+     * day; hourly buckets return compacted days as they are. Buckets without reviews are left out.
+     */
+    public List<TrendBucket> findTrendBuckets(String movieId, boolean daily, LocalDateTime from, LocalDateTime to) {
+        String sql = "SELECT date_trunc(?, bucket_start) AS start, " +
+                "CASE WHEN ? THEN 'day' ELSE resolution END AS bucket_resolution, " +
+                "SUM(total_reviews) AS total_reviews, SUM(rating_sum) AS rating_sum, SUM(rating_count) AS rating_count, " +
+                "SUM(sentiment_score_sum) AS sentiment_score_sum, SUM(sentiment_score_count) AS sentiment_score_count, " +
+                "SUM(positive_reviews) AS positive_reviews, SUM(negative_reviews) AS negative_reviews, " +
+                "SUM(neutral_reviews) AS neutral_reviews, SUM(pending_reviews) AS pending_reviews " +
+                "FROM review_trend_buckets WHERE movie_id = ? AND bucket_start >= ? AND bucket_start < ? " +
+                "GROUP BY 1, 2 HAVING SUM(total_reviews) > 0 ORDER BY 1, 2 DESC";
+        return timed("findTrendBuckets", () -> jdbcTemplate.query(sql, (rs, rowNum) -> new TrendBucket(
+                rs.getTimestamp("start").toLocalDateTime(),
+                rs.getString("bucket_resolution"),
+                rs.getLong("total_reviews"),
+                rs.getDouble("rating_sum"),
+                rs.getLong("rating_count"),
+                rs.getDouble("sentiment_score_sum"),
+                rs.getLong("sentiment_score_count"),
+                rs.getLong("positive_reviews"),
+                rs.getLong("negative_reviews"),
+                rs.getLong("neutral_reviews"),
+                rs.getLong("pending_reviews")),
+                daily ? "day" : "hour", daily, movieId, Timestamp.valueOf(from), Timestamp.valueOf(to)));
+    }
+
+    /**
+     * Fold hourly trend buckets that start before cutoff into daily ones; returns how many were folded
+     */
+    public long compactTrendBuckets(LocalDateTime cutoff) {
+        return timed("compactTrendBuckets", () -> jdbcTemplate.queryForObject(
+                "SELECT review_trend_compact(?)", Long.class, Timestamp.valueOf(cutoff)));
+    }
+
+    /**
+     * Cheapest possible round trip to check the database is reachable
+     */
+    public void ping() {
+        timed("ping", () -> jdbcTemplate.queryForObject("SELECT 1", Integer.class));
+    }
+
+    /**
+     * Time a query the same way Spring Data times repository methods (spring.data.repository.invocations)
+     */
+    private <T> T timed(String method, Supplier<T> query) {
+        long start = System.nanoTime();
+        String state = "SUCCESS";
+        try {
+            return query.get();
+        } catch (RuntimeException e) {
+            state = "ERROR";
+            throw e;
+        } finally {
+            String timerState = state;
+            invocationTimers.computeIfAbsent(method + ":" + state, key -> Timer.builder("jdbc.repository.invocations")
+                            .tag("repository", "ReviewJdbcRepository")
+                            .tag("method", method)
+                            .tag("state", timerState)
+                            .register(meterRegistry))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Rolled-up counts and sums for one trend bucket
+     */
+    public record TrendBucket(LocalDateTime start, String resolution, long totalReviews,
+                              double ratingSum, long ratingCount, double sentimentScoreSum, long sentimentScoreCount,
+                              long positiveReviews, long negativeReviews, long neutralReviews, long pendingReviews) {
+    }
+
+    static Review mapReview(ResultSet rs) throws SQLException {
+        Review review = new Review();
+        review.setId(rs.getLong("id"));
+        review.setMovieId(rs.getString("movie_id"));
+        review.setReviewText(rs.getString("review_text"));
+        review.setSentiment(rs.getString("sentiment"));
+        review.setSentimentScore(rs.getObject("sentiment_score", Double.class));
+        review.setRating(rs.getObject("rating", Double.class));
+        review.setSentimentEngine(rs.getString("sentiment_engine"));
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        review.setCreatedAt(createdAt != null ? createdAt.toLocalDateTime() : null);
+        return review;
+    }
+}
@@ -1,11 +1,13 @@
 package com.moviereview.repository;
 
 import com.moviereview.entity.Review;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -22,13 +24,30 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     long countByMovieId(String movieId);
     
     /**
-     * Find recent reviews (for demo purposes)
+     * Check whether an identical review is already stored (used when replaying the write-behind journal)
      */
-    @Query("SELECT r FROM Review r ORDER BY r.createdAt DESC")
-    List<Review> findRecentReviews();
-    
+    boolean existsByMovieIdAndCreatedAtAndReviewText(String movieId, LocalDateTime createdAt, String reviewText);
+
+    /**
+     * Find the first page of a movie's reviews, newest first (keyset pagination)
+     */
+    @Query("SELECT r FROM Review r WHERE r.movieId = :movieId ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findPageByMovieId(@Param("movieId") String movieId, Limit limit);
+
     /**
-     * Find top N latest reviews across all movies
+     * Find the page of a movie's reviews that follows the (createdAt, id) cursor
+     */
+    @Query("SELECT r FROM Review r WHERE r.movieId = :movieId " +
+           "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findPageByMovieIdBefore(@Param("movieId") String movieId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         Limit limit);
+
+    /**
+     * Find recent reviews (for demo purposes)
      */
-    List<Review> findTop5ByOrderByCreatedAtDesc();
+    @Query("SELECT r FROM Review r ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findRecentReviews(Limit limit);
 } 
\ No newline at end of file
@@ -1,5 +1,9 @@
 package com.moviereview.service;
 
+import com.moviereview.service.HealthProbeService.HealthSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -13,43 +17,92 @@ import java.util.List;
 @Service
 public class AdminService {
 
+    private static final Logger log = LoggerFactory.getLogger(AdminService.class);
+
     @Autowired
     private ReviewService reviewService;
 
     @Autowired
     private ModelServerService modelServerService;
 
-    private boolean backendHealthy = true;
+    @Autowired
+    private HealthProbeService healthProbeService;
+
+    @Autowired
+    private DeferredScoringService deferredScoringService;
+
+    @Autowired
+    private EventBroadcaster eventBroadcaster;
+
+    @Autowired
+    private ReviewSearchIndex searchIndex;
+
+    @Autowired
+    private ReviewTrendService reviewTrendService;
+
+    @Autowired
+    private SchemaMigrationService schemaMigrations;
+
+    private volatile boolean backendHealthy = true;
     
     // Backend overload simulation
-    private boolean backendOverloaded = false;
+    private volatile boolean backendOverloaded = false;
     private ExecutorService overloadExecutor;
     private List<Future<?>> overloadTasks = new ArrayList<>();
 
+    // Last health published to event subscribers, as "status/database/modelServer/overloaded/schema"
+    private String publishedHealth;
+
+    @PostConstruct
+    void publishHealthOnProbe() {
+        healthProbeService.onProbe(this::publishHealthIfChanged);
+    }
+
     /**
-     * Get comprehensive health status
+     * Push the health status to event subscribers when any of its flags changed since the last push
+     */
+    public synchronized void publishHealthIfChanged() {
+        Map<String, Object> health = getHealthStatus();
+        String state = health.get("status") + "/" + health.get("database") + "/"
+                + health.get("modelServer") + "/" + health.get("backendOverloaded") + "/" + health.get("schema");
+        if (!state.equals(publishedHealth)) {
+            publishedHealth = state;
+            eventBroadcaster.publish(EventBroadcaster.EVENT_HEALTH, null, health);
+        }
+    }
+
+    /**
+     * Get comprehensive health status from the latest background probe.
+     * Admin toggles are applied immediately; real connectivity is as of the snapshot.
      */
     public Map<String, Object> getHealthStatus() {
-        boolean databaseStatus = reviewService.isDatabaseAvailable();
-        boolean modelServerStatus = modelServerService.isModelServerAvailable();
+        HealthSnapshot snapshot = healthProbeService.getSnapshot();
+        boolean databaseStatus = reviewService.isDatabaseConnectionEnabled() && snapshot.isDatabaseUp();
+        boolean modelServerStatus = modelServerService.isModelConnectionEnabled() && snapshot.isModelServerUp();
+        String schemaState = schemaMigrations.getState();
 
         String overallStatus;
-        if (!backendHealthy) {
+        if (!backendHealthy || SchemaMigrationService.STATE_FAILED.equals(schemaState)) {
             overallStatus = "unhealthy";
-        } else if (databaseStatus && modelServerStatus) {
+        } else if (databaseStatus && modelServerStatus && schemaMigrations.isMigrated()) {
             overallStatus = "healthy";
         } else {
             overallStatus = "degraded";
         }
 
-        return Map.of(
-            "status", overallStatus,
-            "timestamp", java.time.Instant.now().toString(),
-            "service", "backend",
-            "database", databaseStatus,
-            "modelServer", modelServerStatus,
-            "backendHealthy", backendHealthy,
-            "backendOverloaded", backendOverloaded
+        return Map.ofEntries(
+            Map.entry("status", overallStatus),
+            Map.entry("timestamp", java.time.Instant.now().toString()),
+            Map.entry("service", "backend"),
+            Map.entry("database", databaseStatus),
+            // migrated, pending (waiting for the database) or failed; reviews are only saved once migrated
+            Map.entry("schema", schemaState),
+            Map.entry("modelServer", modelServerStatus),
+            Map.entry("backendHealthy", backendHealthy),
+            Map.entry("backendOverloaded", backendOverloaded),
+            Map.entry("checkedAt", snapshot.getCheckedAt().toString()),
+            Map.entry("ageMs", snapshot.getAgeMillis()),
+            Map.entry("stale", healthProbeService.isStale(snapshot))
         );
     }
 
@@ -58,7 +111,8 @@ public class AdminService {
      */
     public Map<String, Object> toggleBackendHealth() {
         backendHealthy = !backendHealthy;
-        System.out.println("🏥 Backend health toggled: " + (backendHealthy ? "HEALTHY" : "UNHEALTHY"));
+        log.info("Backend health toggled: {}", backendHealthy ? "HEALTHY" : "UNHEALTHY");
+        publishHealthIfChanged();
         
         return Map.of(
             "message", "Backend health " + (backendHealthy ? "enabled" : "disabled"),
@@ -76,6 +130,7 @@ public class AdminService {
         } else {
             startBackendOverload();
         }
+        publishHealthIfChanged();
         
         return Map.of(
             "message", "Backend overload " + (backendOverloaded ? "started" : "stopped"),
@@ -95,7 +150,7 @@ public class AdminService {
         backendOverloaded = true;
         overloadExecutor = Executors.newFixedThreadPool(4);
         
-        System.out.println("🔥 Starting backend overload simulation...");
+        log.info("Starting backend overload simulation...");
         
         // CPU intensive tasks
         for (int i = 0; i < 3; i++) {
@@ -139,7 +194,7 @@ public class AdminService {
                     Thread.currentThread().interrupt();
                     break;
                 } catch (OutOfMemoryError e) {
-                    System.err.println("⚠️ Backend overload hit memory limit - reducing load");
+                    log.warn("Backend overload hit memory limit - reducing load");
                     memoryEater.clear();
                     System.gc();
                 }
@@ -147,7 +202,7 @@ public class AdminService {
         });
         overloadTasks.add(memoryTask);
         
-        System.out.println("🔥 Backend overload simulation started with " + overloadTasks.size() + " tasks");
+        log.info("Backend overload simulation started with {} tasks", overloadTasks.size());
     }
 
     /**
@@ -160,7 +215,7 @@ public class AdminService {
         
         backendOverloaded = false;
         
-        System.out.println("🛑 Stopping backend overload simulation...");
+        log.info("Stopping backend overload simulation...");
         
         // Cancel all running tasks
         for (Future<?> task : overloadTasks) {
@@ -177,7 +232,7 @@ public class AdminService {
         // Force garbage collection to clean up
         System.gc();
         
-        System.out.println("✅ Backend overload simulation stopped");
+        log.info("Backend overload simulation stopped");
     }
 
     /**
@@ -186,6 +241,7 @@ public class AdminService {
     public Map<String, Object> toggleDatabaseConnection() {
         reviewService.toggleDatabaseConnection();
         boolean newStatus = reviewService.isDatabaseConnectionEnabled();
+        healthProbeService.refresh();
         
         return Map.of(
             "message", "Database connection " + (newStatus ? "enabled" : "disabled"),
@@ -200,6 +256,7 @@ public class AdminService {
     public Map<String, Object> toggleModelServerConnection() {
         modelServerService.toggleModelConnection();
         boolean newStatus = modelServerService.isModelConnectionEnabled();
+        healthProbeService.refresh();
         
         return Map.of(
             "message", "Model server connection " + (newStatus ? "enabled" : "disabled"),
@@ -212,15 +269,22 @@ public class AdminService {
      * Get backend status for admin panel
      */
     public Map<String, Object> getAdminStatus() {
-        return Map.of(
-            "backendHealthy", backendHealthy,
-            "backendOverloaded", backendOverloaded,
-            "databaseConnected", reviewService.isDatabaseConnectionEnabled(),
-            "modelServerConnected", modelServerService.isModelConnectionEnabled(),
-            "actualDatabaseStatus", reviewService.isDatabaseAvailable(),
-            "actualModelServerStatus", modelServerService.isModelServerAvailable(),
-            "timestamp", java.time.Instant.now().toString(),
-            "reviewStats", reviewService.getReviewStats()
+        HealthSnapshot snapshot = healthProbeService.getSnapshot();
+        return Map.ofEntries(
+            Map.entry("backendHealthy", backendHealthy),
+            Map.entry("backendOverloaded", backendOverloaded),
+            Map.entry("databaseConnected", reviewService.isDatabaseConnectionEnabled()),
+            Map.entry("modelServerConnected", modelServerService.isModelConnectionEnabled()),
+            Map.entry("actualDatabaseStatus", reviewService.isDatabaseConnectionEnabled() && snapshot.isDatabaseUp()),
+            Map.entry("actualModelServerStatus", modelServerService.isModelConnectionEnabled() && snapshot.isModelServerUp()),
+            Map.entry("timestamp", java.time.Instant.now().toString()),
+            Map.entry("reviewStats", reviewService.getReviewStats(reviewService.isDatabaseConnectionEnabled() && snapshot.isDatabaseUp())),
+            Map.entry("modelClient", modelServerService.getClientStats()),
+            Map.entry("writeBehind", reviewService.getWriteBehindStatus()),
+            Map.entry("deferredScoring", deferredScoringService.getStatus()),
+            Map.entry("events", eventBroadcaster.getStatus()),
+            Map.entry("search", searchIndex.getStatus()),
+            Map.entry("trend", reviewTrendService.getStatus())
         );
     }
 
@@ -0,0 +1,268 @@
+package com.moviereview.service;
+
+import com.moviereview.entity.Review;
+import com.moviereview.repository.ReviewJdbcRepository;
+import com.moviereview.service.ModelServerService.SentimentResult;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Scores reviews that were stored with pending sentiment while the model server was down.
+ *
+ * Once the health probe reports the model server up again, pending rows are analyzed in
+ * batches, oldest first, each batch updated with one JDBC batch. Concurrency starts at one
+ * call and doubles after every fully successful batch up to the configured limit, and the
+ * overall rate is capped, so a recovering model server is not flooded with the backlog.
+ * A batch in which every analysis failed looks like the model server going down again: it
+ * drops concurrency back to one and ends the round. Rows that fail on their own (e.g. text the
+ * model rejects, or that is now routed to the fallback analyzer) do not stop the round, which
+ * pages on past them by ID; after max-attempts failed rounds such a row is left pending and
+ * skipped until restart, so it cannot hold up the rows behind it.
+ */
+@Service
+public class DeferredScoringService {
+
+    private static final Logger log = LoggerFactory.getLogger(DeferredScoringService.class);
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ReviewJdbcRepository reviewJdbcRepository;
+
+    @Autowired
+    private ModelServerService modelServerService;
+
+    @Autowired
+    private HealthProbeService healthProbeService;
+
+    @Autowired
+    private MovieStatsService movieStatsService;
+
+    @Autowired
+    private LatestReviewsBuffer latestReviews;
+
+    @Autowired
+    private ReviewRevisions reviewRevisions;
+
+    @Autowired
+    private ReviewSearchIndex searchIndex;
+
+    @Autowired
+    private EventBroadcaster eventBroadcaster;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${review.deferred-scoring.interval-ms:5000}")
+    private long intervalMs;
+
+    @Value("${review.deferred-scoring.batch-size:50}")
+    private int batchSize;
+
+    @Value("${review.deferred-scoring.max-concurrency:8}")
+    private int maxConcurrency;
+
+    @Value("${review.deferred-scoring.max-per-second:20}")
+    private int maxPerSecond;
+
+    @Value("${review.deferred-scoring.max-attempts:5}")
+    private int maxAttempts;
+
+    // Single thread, so rounds never overlap
+    private ScheduledExecutorService scorer;
+
+    private final AtomicInteger concurrency = new AtomicInteger(1);
+    private final LongAdder rescored = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private volatile long lastRoundPending = 0;
+
+    // Failed analyses per pending review ID; rows at maxAttempts are skipped
+    private final Map<Long, Integer> failedAttempts = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void startScorer() {
+        if (!reviewService.isDeferredScoringEnabled()) {
+            return;
+        }
+
+        FunctionCounter.builder("review.deferred.rescored", rescored, LongAdder::sum)
+                .description("Pending reviews scored after a model server outage")
+                .register(meterRegistry);
+        FunctionCounter.builder("review.deferred.failures", failures, LongAdder::sum)
+                .description("Deferred analyses that failed and were left pending")
+                .register(meterRegistry);
+
+        scorer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "deferred-scorer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scorer.scheduleWithFixedDelay(this::scorePending, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        log.info("Deferred sentiment scoring enabled (batch: {}, max concurrency: {}, max {}/s)",
+                batchSize, maxConcurrency, maxPerSecond);
+    }
+
+    @PreDestroy
+    void stopScorer() {
+        if (scorer != null) {
+            scorer.shutdownNow();
+        }
+    }
+
+    /**
+     * One round: score batches of pending reviews until none are left, the model server fails, or the scorer stops
+     */
+    private void scorePending() {
+        try {
+            if (!healthProbeService.getSnapshot().isModelServerUp() || !reviewService.isDatabaseConnectionEnabled()) {
+                concurrency.set(1);
+                return;
+            }
+
+            // Keyset over the IDs, so rows that failed earlier in the round are not fetched again
+            long afterId = 0;
+            while (!Thread.currentThread().isInterrupted()) {
+                List<Review> page = reviewJdbcRepository.findPendingSentiment(afterId, batchSize);
+                lastRoundPending = page.size();
+                if (page.isEmpty()) {
+                    return;
+                }
+                afterId = page.get(page.size() - 1).getId();
+
+                List<Review> pending = page.stream()
+                        .filter(review -> failedAttempts.getOrDefault(review.getId(), 0) < maxAttempts)
+                        .toList();
+                if (!pending.isEmpty() && !scoreBatch(pending)) {
+                    return;
+                }
+                if (page.size() < batchSize) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Deferred scoring round failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Analyze and store one batch; returns false if every analysis failed
+     */
+    private boolean scoreBatch(List<Review> pending) throws InterruptedException {
+        long start = System.nanoTime();
+        int parallelism = concurrency.get();
+
+        List<Review> scored = Flux.fromIterable(pending)
+                .flatMap(review -> modelServerService.analyzeSentimentAsync(review.getReviewText())
+                        // Only a model server answer settles a pending review; a fallback score does not
+                        .filter(result -> SentimentResult.ENGINE_MODEL.equals(result.getEngine()))
+                        .map(result -> withResult(review, result))
+                        .onErrorResume(e -> Mono.empty()), parallelism)
+                .collectList()
+                .block();
+
+        Set<Long> scoredIds = new HashSet<>();
+        if (scored != null) {
+            for (Review review : scored) {
+                scoredIds.add(review.getId());
+                failedAttempts.remove(review.getId());
+            }
+        }
+        int failed = pending.size() - scoredIds.size();
+        if (scored != null && !scored.isEmpty()) {
+            // Stored and recorded before the movie stats seed can take its snapshot, or after it
+            movieStatsService.guardWrite(() -> {
+                boolean[] updated = reviewJdbcRepository.updatePendingSentiment(scored);
+                for (int i = 0; i < scored.size(); i++) {
+                    if (updated[i]) {
+                        movieStatsService.recordRescore(scored.get(i));
+                        latestReviews.replace(scored.get(i));
+                        searchIndex.recordRescore(scored.get(i));
+                        reviewRevisions.bump(scored.get(i).getMovieId());
+                        eventBroadcaster.publish(EventBroadcaster.EVENT_REVIEW,
+                                String.valueOf(scored.get(i).getId()), scored.get(i));
+                        rescored.increment();
+                    }
+                }
+                return null;
+            });
+        }
+
+        if (failed > 0) {
+            failures.add(failed);
+            for (Review review : pending) {
+                if (!scoredIds.contains(review.getId())
+                        && failedAttempts.merge(review.getId(), 1, Integer::sum) == maxAttempts) {
+                    log.warn("Review {} left pending after {} failed analyses", review.getId(), maxAttempts);
+                }
+            }
+        }
+        if (scoredIds.isEmpty()) {
+            concurrency.set(1);
+            log.info("Deferred scoring paused: all {} analyses failed", pending.size());
+            return false;
+        }
+
+        // Only a clean batch earns more concurrency; single bad rows keep it where it is
+        if (failed == 0) {
+            concurrency.set(Math.min(maxConcurrency, parallelism * 2));
+        }
+        log.debug("Scored {} of {} pending reviews (concurrency {})", scoredIds.size(), pending.size(), parallelism);
+
+        // Rate cap: a batch of n reviews takes at least n / maxPerSecond seconds
+        if (maxPerSecond > 0) {
+            long minNanos = TimeUnit.SECONDS.toNanos(pending.size()) / maxPerSecond;
+            long remaining = minNanos - (System.nanoTime() - start);
+            if (remaining > 0) {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            }
+        }
+        return true;
+    }
+
+    private static Review withResult(Review pending, SentimentResult result) {
+        Review review = new Review(pending.getMovieId(), pending.getReviewText(),
+                                   result.getSentiment(), result.getScore(), result.getRating());
+        review.setId(pending.getId());
+        review.setCreatedAt(pending.getCreatedAt());
+        review.setSentimentEngine(result.getEngine());
+        return review;
+    }
+
+    /**
+     * Get deferred scoring counters for admin panel
+     */
+    public Map<String, Object> getStatus() {
+        if (scorer == null) {
+            return Map.of("enabled", false);
+        }
+        return Map.of(
+            "enabled", true,
+            "rescored", rescored.sum(),
+            "failures", failures.sum(),
+            "concurrency", concurrency.get(),
+            "lastBatchPending", lastRoundPending,
+            "skipped", failedAttempts.values().stream().filter(attempts -> attempts >= maxAttempts).count()
+        );
+    }
+}
@@ -0,0 +1,200 @@
+package com.moviereview.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moviereview.entity.Review;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Fans out server-sent events (new reviews, health changes) to every connected client.
+ *
+ * All subscribers share one multicast sink that keeps no per-subscriber queue: a client that is
+ * still writing the previous event misses the next one instead of buffering it, so memory per
+ * subscriber is constant however slow or idle it is. Events are serialized to JSON once, and
+ * emitted from a single thread, so publishers never wait on clients. A shared heartbeat keeps
+ * idle connections open through proxies and detects clients that went away.
+ *
+ * Review events carry the review ID as the event ID, so a client that reconnects with
+ * Last-Event-ID is sent the reviews it missed from the latest reviews buffer. That is best
+ * effort: a gap longer than the buffer holds, or a rescore of an older review, is not replayed.
+ */
+@Service
+public class EventBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(EventBroadcaster.class);
+
+    public static final String EVENT_REVIEW = "review";
+    public static final String EVENT_HEALTH = "health";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${events.max-subscribers:100}")
+    private int maxSubscribers;
+
+    @Value("${events.heartbeat-seconds:15}")
+    private long heartbeatSeconds;
+
+    @Value("${server.tomcat.max-connections:8192}")
+    private int maxConnections;
+
+    @Value("${server.tomcat.threads.max:200}")
+    private int maxRequestThreads;
+
+    private final Sinks.Many<ServerSentEvent<String>> sink = Sinks.many().multicast().directBestEffort();
+
+    // Single thread: sink emissions must not overlap, and publishers return immediately
+    private ScheduledExecutorService emitter;
+
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    @PostConstruct
+    void startEmitter() {
+        // Every subscriber holds a connection for as long as it is subscribed
+        if (maxSubscribers > maxConnections - maxRequestThreads) {
+            log.warn("events.max-subscribers ({}) leaves fewer connections than request threads ({}) for other "
+                    + "requests under server.tomcat.max-connections ({})", maxSubscribers, maxRequestThreads, maxConnections);
+        }
+
+        emitter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-broadcaster");
+            thread.setDaemon(true);
+            return thread;
+        });
+        emitter.scheduleAtFixedRate(() -> emit(ServerSentEvent.<String>builder().comment("heartbeat").build()),
+                heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+
+        Gauge.builder("events.subscribers", subscribers, AtomicInteger::get)
+                .description("Connected server-sent event subscribers")
+                .register(meterRegistry);
+        FunctionCounter.builder("events.published", published, LongAdder::sum)
+                .description("Events published to subscribers")
+                .register(meterRegistry);
+        FunctionCounter.builder("events.rejected", rejected, LongAdder::sum)
+                .description("Subscriptions refused because the subscriber limit was reached")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stopEmitter() {
+        emitter.shutdownNow();
+        sink.tryEmitComplete();
+    }
+
+    /**
+     * Subscribe to all future events, starting with one describing the current state and then the
+     * review events missed since a previous subscription; the subscription ends when the client
+     * disconnects
+     */
+    public Flux<ServerSentEvent<String>> subscribe(String initialType, Object initialData,
+                                                   Supplier<List<Review>> missedReviews) {
+        if (subscribers.incrementAndGet() > maxSubscribers) {
+            subscribers.decrementAndGet();
+            rejected.increment();
+            throw new SubscriberLimitException("Too many event subscribers (limit " + maxSubscribers + ")");
+        }
+
+        // Live events are subscribed to before the missed reviews are looked up, so a review saved
+        // in between arrives twice rather than not at all; the review ID makes the copy harmless.
+        // A prefetch of one keeps the per-subscriber buffer at a single event.
+        Flux<ServerSentEvent<String>> missed = Flux.defer(() -> Flux.fromIterable(missedReviews.get()))
+                .map(review -> ServerSentEvent.<String>builder()
+                        .event(EVENT_REVIEW)
+                        .id(String.valueOf(review.getId()))
+                        .data(toJson(review))
+                        .build());
+        return Flux.merge(1, sink.asFlux(), missed)
+                .startWith(ServerSentEvent.<String>builder()
+                        .event(initialType)
+                        .data(toJson(initialData))
+                        .retry(Duration.ofSeconds(5))
+                        .build())
+                .doFinally(signal -> subscribers.decrementAndGet());
+    }
+
+    /**
+     * Publish an event to every subscriber; never blocks the caller
+     */
+    public void publish(String type, String id, Object data) {
+        if (subscribers.get() == 0) {
+            return;
+        }
+
+        try {
+            ServerSentEvent<String> event = ServerSentEvent.<String>builder()
+                    .event(type)
+                    .id(id)
+                    .data(toJson(data))
+                    .build();
+            emitter.execute(() -> {
+                emit(event);
+                published.increment();
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Event broadcaster stopped, dropping {} event", type);
+        } catch (IllegalArgumentException e) {
+            log.warn("Dropping {} event: {}", type, e.getMessage());
+        }
+    }
+
+    private void emit(ServerSentEvent<String> event) {
+        Sinks.EmitResult result = sink.tryEmitNext(event);
+        if (result.isFailure() && result != Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER) {
+            log.debug("Event not emitted: {}", result);
+        }
+    }
+
+    private String toJson(Object data) {
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Event payload is not serializable", e);
+        }
+    }
+
+    /**
+     * Get event stream counters for admin panel
+     */
+    public Map<String, Object> getStatus() {
+        return Map.of(
+            "subscribers", subscribers.get(),
+            "maxSubscribers", maxSubscribers,
+            "published", published.sum(),
+            "rejected", rejected.sum()
+        );
+    }
+
+    public static class SubscriberLimitException extends RuntimeException {
+        public SubscriberLimitException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.moviereview.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Probes the database and model server on a fixed, jittered schedule and keeps the latest
+ * result as an immutable snapshot. Health endpoints read the snapshot instead of probing,
+ * so their cost does not grow with the number of clients polling them.
+ */
+@Service
+public class HealthProbeService {
+
+    private static final Logger log = LoggerFactory.getLogger(HealthProbeService.class);
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ModelServerService modelServerService;
+
+    @Autowired
+    private SchemaMigrationService schemaMigrations;
+
+    @Value("${health.probe.interval-ms:5000}")
+    private long intervalMs;
+
+    @Value("${health.probe.jitter-ms:1000}")
+    private long jitterMs;
+
+    @Value("${health.probe.stale-after-ms:30000}")
+    private long staleAfterMs;
+
+    private volatile HealthSnapshot snapshot = new HealthSnapshot(false, false, Instant.now(), 0);
+
+    // Single thread, so probes never overlap
+    private ScheduledExecutorService prober;
+
+    // Run on the prober thread after every probe
+    private final List<Runnable> probeListeners = new CopyOnWriteArrayList<>();
+
+    @PostConstruct
+    void startProber() {
+        prober = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "health-prober");
+            thread.setDaemon(true);
+            return thread;
+        });
+        prober.execute(this::probeAndReschedule);
+    }
+
+    @PreDestroy
+    void stopProber() {
+        prober.shutdownNow();
+    }
+
+    /**
+     * Latest probe result
+     */
+    public HealthSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Probe again as soon as possible, e.g. after an admin toggle; does not block the caller
+     */
+    public void refresh() {
+        prober.execute(this::probe);
+    }
+
+    /**
+     * Run a callback after every probe, e.g. to publish health changes
+     */
+    public void onProbe(Runnable listener) {
+        probeListeners.add(listener);
+    }
+
+    /**
+     * Check whether the snapshot is older than the configured staleness limit
+     */
+    public boolean isStale(HealthSnapshot current) {
+        return current.getAgeMillis() > staleAfterMs;
+    }
+
+    private void probeAndReschedule() {
+        try {
+            probe();
+        } finally {
+            // Jitter keeps replicas from probing the shared database and model server in lockstep
+            long delay = intervalMs + (jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs + 1) : 0);
+            if (!prober.isShutdown()) {
+                prober.schedule(this::probeAndReschedule, delay, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void probe() {
+        try {
+            long start = System.nanoTime();
+            boolean databaseUp = reviewService.isDatabaseAvailable();
+            boolean modelServerUp = modelServerService.isModelServerAvailable();
+            long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            HealthSnapshot previous = snapshot;
+            snapshot = new HealthSnapshot(databaseUp, modelServerUp, Instant.now(), durationMs);
+            if (previous.isDatabaseUp() != databaseUp || previous.isModelServerUp() != modelServerUp) {
+                log.info("Health changed - database: {}, model server: {}", databaseUp ? "UP" : "DOWN", modelServerUp ? "UP" : "DOWN");
+            }
+            if (databaseUp) {
+                // Migrations skipped at startup because the database was unreachable
+                schemaMigrations.migrateIfPending();
+            }
+            for (Runnable listener : probeListeners) {
+                listener.run();
+            }
+        } catch (Exception e) {
+            log.warn("Health probe failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Immutable result of one probe round
+     */
+    public static class HealthSnapshot {
+        private final boolean databaseUp;
+        private final boolean modelServerUp;
+        private final Instant checkedAt;
+        private final long probeDurationMs;
+
+        public HealthSnapshot(boolean databaseUp, boolean modelServerUp, Instant checkedAt, long probeDurationMs) {
+            this.databaseUp = databaseUp;
+            this.modelServerUp = modelServerUp;
+            this.checkedAt = checkedAt;
+            this.probeDurationMs = probeDurationMs;
+        }
+
+        public boolean isDatabaseUp() {
+            return databaseUp;
+        }
+
+        public boolean isModelServerUp() {
+            return modelServerUp;
+        }
+
+        public Instant getCheckedAt() {
+            return checkedAt;
+        }
+
+        public long getProbeDurationMs() {
+            return probeDurationMs;
+        }
+
+        public long getAgeMillis() {
+            return Duration.between(checkedAt, Instant.now()).toMillis();
+        }
+    }
+}
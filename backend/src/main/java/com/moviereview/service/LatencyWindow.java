@@ -0,0 +1,60 @@
+package com.moviereview.service;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latencies of the most recent calls in a fixed-size ring, with a percentile that is
+ * recomputed at most once per refresh interval so readers on the hot path stay cheap.
+ */
+class LatencyWindow {
+
+    private final AtomicLongArray samples;
+    private final AtomicLong recorded = new AtomicLong();
+    private final long refreshNanos;
+
+    private volatile long cachedAt;
+    private volatile double cachedPercentile = -1;
+    private volatile long cachedValue = -1;
+
+    LatencyWindow(int capacity, long refreshMillis) {
+        this.samples = new AtomicLongArray(capacity);
+        this.refreshNanos = refreshMillis * 1_000_000L;
+        this.cachedAt = System.nanoTime() - refreshNanos;
+    }
+
+    void record(long latencyMillis) {
+        long index = recorded.getAndIncrement();
+        samples.set((int) (index % samples.length()), latencyMillis);
+    }
+
+    /**
+     * Percentile (0-1) of the recorded latencies, or -1 until minSamples calls have been recorded
+     */
+    long percentile(double percentile, int minSamples) {
+        long count = Math.min(recorded.get(), samples.length());
+        if (count < minSamples) {
+            return -1;
+        }
+
+        long now = System.nanoTime();
+        if (now - cachedAt < refreshNanos && cachedPercentile == percentile) {
+            return cachedValue;
+        }
+
+        long[] copy = new long[(int) count];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = samples.get(i);
+        }
+        Arrays.sort(copy);
+        int rank = (int) Math.ceil(percentile * copy.length) - 1;
+        long value = copy[Math.max(0, Math.min(copy.length - 1, rank))];
+
+        // Racing refreshes compute the same value from slightly different windows, which is harmless
+        cachedValue = value;
+        cachedPercentile = percentile;
+        cachedAt = now;
+        return value;
+    }
+}
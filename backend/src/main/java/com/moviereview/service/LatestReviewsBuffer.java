@@ -0,0 +1,210 @@
+package com.moviereview.service;
+
+import com.moviereview.entity.Review;
+import com.moviereview.repository.ReviewRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The most recent reviews across all movies, kept in a fixed-size ring so the home page's
+ * "latest reviews" never hits the database.
+ *
+ * Writers claim a slot with one atomic increment and overwrite the oldest entry; readers copy
+ * the ring and sort the copy, so neither side takes a lock once the ring is seeded. Seeded once
+ * from the database and then appended to on every saved review.
+ */
+@Service
+public class LatestReviewsBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(LatestReviewsBuffer.class);
+
+    private static final Comparator<Review> NEWEST_FIRST = Comparator
+            .comparing(Review::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Review::getId, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    private final int capacity;
+    private final AtomicReferenceArray<Review> slots;
+    // Total number of appends; the next write goes to slot (next % capacity)
+    private final AtomicLong next = new AtomicLong();
+
+    private final AtomicBoolean seeding = new AtomicBoolean(false);
+    // Held while the seed rebuilds the ring; appends and replacements only take it until seeded
+    private final Object seedLock = new Object();
+    private volatile boolean seeded = false;
+
+    public LatestReviewsBuffer(@Value("${review.latest.capacity:50}") int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.slots = new AtomicReferenceArray<>(this.capacity);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedOnStartup() {
+        trySeed();
+    }
+
+    /**
+     * Load the newest reviews from the database; returns false if another thread is seeding or the database is down
+     */
+    public boolean trySeed() {
+        if (seeded || !seeding.compareAndSet(false, true)) {
+            return seeded;
+        }
+
+        try {
+            List<Review> newest = reviewRepository.findRecentReviews(Limit.of(capacity));
+
+            // Rebuild the ring from the seed rows plus the reviews saved while the query ran, newest
+            // kept, written oldest first so later appends evict the oldest. Appends wait meanwhile.
+            int seededCount = 0;
+            synchronized (seedLock) {
+                List<Review> merged = snapshot();
+                Set<Long> present = new HashSet<>();
+                for (Review review : merged) {
+                    present.add(review.getId());
+                }
+                for (Review review : newest) {
+                    // A copy saved (or rescored) during seeding is at least as recent as the seed row
+                    if (!present.contains(review.getId())) {
+                        merged.add(review);
+                        seededCount++;
+                    }
+                }
+                merged.sort(NEWEST_FIRST);
+
+                int size = Math.min(capacity, merged.size());
+                for (int slot = 0; slot < capacity; slot++) {
+                    slots.set(slot, slot < size ? merged.get(size - 1 - slot) : null);
+                }
+                next.set(size);
+                seeded = true;
+            }
+            log.info("Latest reviews buffer seeded with {} reviews", seededCount);
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to seed latest reviews: {}", e.getMessage());
+            return false;
+        } finally {
+            seeding.set(false);
+        }
+    }
+
+    /**
+     * Add a saved review, replacing the oldest one once the ring is full
+     */
+    public void append(Review review) {
+        if (!seeded) {
+            // The seed may be rebuilding the ring
+            synchronized (seedLock) {
+                appendSlot(review);
+            }
+            return;
+        }
+        appendSlot(review);
+    }
+
+    private void appendSlot(Review review) {
+        int slot = (int) (next.getAndIncrement() % capacity);
+        slots.set(slot, review);
+    }
+
+    /**
+     * Swap in the new version of a review that is still in the ring (e.g. once a pending sentiment is scored)
+     */
+    public void replace(Review review) {
+        if (!seeded) {
+            synchronized (seedLock) {
+                replaceSlot(review);
+            }
+            return;
+        }
+        replaceSlot(review);
+    }
+
+    private void replaceSlot(Review review) {
+        for (int i = 0; i < capacity; i++) {
+            Review current = slots.get(i);
+            if (current != null && current.getId() != null && current.getId().equals(review.getId())) {
+                slots.compareAndSet(i, current, review);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Newest reviews first, at most {@code limit} and never more than the ring holds
+     */
+    public List<Review> latest(int limit) {
+        List<Review> reviews = snapshot();
+        reviews.sort(NEWEST_FIRST);
+
+        // Copies of one review (e.g. appended twice) sort next to each other; keep the first
+        List<Review> latest = new ArrayList<>(Math.min(limit, reviews.size()));
+        Review previous = null;
+        for (Review review : reviews) {
+            if (latest.size() >= limit) {
+                break;
+            }
+            if (previous == null || review.getId() == null || !review.getId().equals(previous.getId())) {
+                latest.add(review);
+            }
+            previous = review;
+        }
+        return latest;
+    }
+
+    /**
+     * Reviews newer than the given one, oldest first; the whole ring if that review has already
+     * been evicted (or never was in it), since what came after it is then not known
+     */
+    public List<Review> newerThan(long reviewId) {
+        List<Review> newest = latest(capacity);
+        List<Review> newer = new ArrayList<>(newest.size());
+        for (Review review : newest) {
+            if (review.getId() != null && review.getId() == reviewId) {
+                break;
+            }
+            newer.add(review);
+        }
+        return newer.reversed();
+    }
+
+    private List<Review> snapshot() {
+        List<Review> reviews = new ArrayList<>(capacity);
+        for (int i = 0; i < capacity; i++) {
+            Review review = slots.get(i);
+            if (review != null) {
+                reviews.add(review);
+            }
+        }
+        return reviews;
+    }
+
+    /**
+     * Check whether reads are being served from memory
+     */
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,178 @@
+package com.moviereview.service;
+
+import com.moviereview.service.ModelServerService.SentimentResult;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-process sentiment scorer used when the model server cannot answer, or for short texts.
+ *
+ * Polarity is the average of the lexicon words found in the text, each scaled by a preceding
+ * intensifier and flipped (times -0.5) after a negation, the same scheme TextBlob's pattern
+ * analyzer uses. Sentiment thresholds and the rating mapping match analyze_sentiment_and_rating
+ * in model/app.py, so results are interchangeable with the model server's.
+ */
+@Component
+public class LexiconSentimentAnalyzer {
+
+    private static final Logger log = LoggerFactory.getLogger(LexiconSentimentAnalyzer.class);
+
+    private static final String LEXICON = "sentiment/lexicon.txt";
+
+    private static final Map<String, Double> INTENSIFIERS = Map.ofEntries(
+            Map.entry("very", 1.3),
+            Map.entry("really", 1.3),
+            Map.entry("so", 1.3),
+            Map.entry("too", 1.3),
+            Map.entry("truly", 1.3),
+            Map.entry("highly", 1.3),
+            Map.entry("incredibly", 1.3),
+            Map.entry("extremely", 1.5),
+            Map.entry("absolutely", 1.5),
+            Map.entry("completely", 1.5),
+            Map.entry("totally", 1.5),
+            Map.entry("utterly", 1.5),
+            Map.entry("most", 1.5),
+            Map.entry("quite", 1.1),
+            Map.entry("pretty", 1.1),
+            Map.entry("somewhat", 0.8),
+            Map.entry("slightly", 0.7),
+            Map.entry("bit", 0.7)
+    );
+
+    private static final Set<String> NEGATIONS = Set.of(
+            "not", "no", "never", "neither", "nor", "without", "cannot", "hardly", "barely");
+
+    // A negation stops applying after this many words without a sentiment word
+    private static final int NEGATION_SCOPE = 3;
+
+    private Map<String, Double> polarities = Map.of();
+
+    @PostConstruct
+    void loadLexicon() {
+        Map<String, Double> loaded = new HashMap<>(512);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(LEXICON).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                int separator = line.lastIndexOf(' ');
+                loaded.put(line.substring(0, separator).trim(), Double.parseDouble(line.substring(separator + 1)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load sentiment lexicon " + LEXICON, e);
+        }
+        polarities = Map.copyOf(loaded);
+        log.info("Loaded fallback sentiment lexicon ({} words)", polarities.size());
+    }
+
+    /**
+     * Score a review text; never fails and never blocks
+     */
+    public SentimentResult analyze(String text) {
+        double polarity = polarity(text);
+
+        String sentiment;
+        double rating;
+        if (polarity > 0.1) {
+            sentiment = "positive";
+            rating = clamp(4.0 + polarity, 4.0, 5.0);
+        } else if (polarity < -0.1) {
+            sentiment = "negative";
+            rating = clamp(2.0 + polarity, 1.0, 2.0);
+        } else {
+            sentiment = "neutral";
+            rating = clamp(3.0 + polarity * 0.5, 2.5, 3.5);
+        }
+
+        return new SentimentResult(sentiment, round(polarity, 3), round(rating, 1), SentimentResult.ENGINE_LEXICON);
+    }
+
+    /**
+     * Average polarity of the sentiment words in the text, in -1..1 (0 if there are none)
+     */
+    double polarity(String text) {
+        double sum = 0;
+        int assessments = 0;
+        double intensity = 1.0;
+        int negationLeft = 0;
+
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (!Character.isLetter(c)) {
+                // Sentence punctuation ends any pending negation
+                if (c == '.' || c == '!' || c == '?' || c == ';' || c == ',') {
+                    negationLeft = 0;
+                    intensity = 1.0;
+                }
+                i++;
+                continue;
+            }
+
+            int start = i;
+            while (i < length && (Character.isLetter(text.charAt(i)) || text.charAt(i) == '\'')) {
+                i++;
+            }
+            String word = text.substring(start, i).toLowerCase();
+
+            if (word.endsWith("n't") || NEGATIONS.contains(word)) {
+                negationLeft = NEGATION_SCOPE;
+                continue;
+            }
+            Double boost = INTENSIFIERS.get(word);
+            if (boost != null) {
+                intensity *= boost;
+                continue;
+            }
+
+            Double value = polarities.get(word);
+            if (value == null && word.endsWith("'s")) {
+                value = polarities.get(word.substring(0, word.length() - 2));
+            }
+            if (value == null) {
+                intensity = 1.0;
+                if (negationLeft > 0) {
+                    negationLeft--;
+                }
+                continue;
+            }
+
+            double score = clamp(value * intensity, -1.0, 1.0);
+            if (negationLeft > 0) {
+                score *= -0.5;
+            }
+            sum += score;
+            assessments++;
+            intensity = 1.0;
+            negationLeft = 0;
+        }
+
+        return assessments == 0 ? 0.0 : clamp(sum / assessments, -1.0, 1.0);
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static double round(double value, int places) {
+        double scale = Math.pow(10, places);
+        return Math.round(value * scale) / scale;
+    }
+}
@@ -0,0 +1,344 @@
+package com.moviereview.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.SignalType;
+
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Client-side routing across model server replicas.
+ *
+ * Each call goes to the less loaded of two randomly picked available endpoints (fewest
+ * outstanding requests, then lowest recent latency), which spreads load evenly without a
+ * shared view of every replica. Endpoints are taken out of rotation when the health probe
+ * reports them down, and ejected for a while after repeated failures or when they are much
+ * slower than their peers. With discovery enabled, each configured host is re-resolved on
+ * every health probe and each address becomes its own endpoint (e.g. a headless Service).
+ */
+@Component
+public class ModelEndpointRouter {
+
+    private static final Logger log = LoggerFactory.getLogger(ModelEndpointRouter.class);
+
+    // Weight of the newest sample in each endpoint's latency average
+    private static final double LATENCY_ALPHA = 0.2;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${model.server.urls:${model.server.url}}")
+    private String configuredUrls;
+
+    @Value("${model.server.discovery.enabled:false}")
+    private boolean discoveryEnabled;
+
+    @Value("${model.server.ejection.consecutive-failures:3}")
+    private int ejectAfterFailures;
+
+    @Value("${model.server.ejection.latency-factor:3.0}")
+    private double ejectLatencyFactor;
+
+    @Value("${model.server.ejection.min-latency-ms:100}")
+    private long ejectMinLatencyMs;
+
+    @Value("${model.server.ejection.duration-ms:10000}")
+    private long ejectionMs;
+
+    @Value("${model.server.ejection.max-percent:50}")
+    private int maxEjectionPercent;
+
+    // Replaced as a whole when discovery finds a different set of addresses
+    private volatile List<ModelEndpoint> endpoints = List.of();
+
+    @PostConstruct
+    void init() {
+        List<ModelEndpoint> initial = new ArrayList<>();
+        for (String url : configuredBaseUrls()) {
+            initial.add(register(new ModelEndpoint(url)));
+        }
+        endpoints = List.copyOf(initial);
+        log.info("Model server endpoints: {}{}", configuredBaseUrls(), discoveryEnabled ? " (DNS discovery enabled)" : "");
+    }
+
+    /**
+     * Pick the endpoint for the next call
+     */
+    public ModelEndpoint choose() {
+        List<ModelEndpoint> current = endpoints;
+        long now = System.nanoTime();
+        List<ModelEndpoint> available = new ArrayList<>(current.size());
+        for (ModelEndpoint endpoint : current) {
+            if (endpoint.isAvailable(now)) {
+                available.add(endpoint);
+            }
+        }
+        // Nothing looks usable: try anything rather than fail without a single attempt
+        List<ModelEndpoint> candidates = available.isEmpty() ? current : available;
+
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        ModelEndpoint a = candidates.get(first);
+        ModelEndpoint b = candidates.get(second);
+        int outstandingA = a.outstanding.get();
+        int outstandingB = b.outstanding.get();
+        if (outstandingA != outstandingB) {
+            return outstandingA < outstandingB ? a : b;
+        }
+        return a.getLatencyMillis() <= b.getLatencyMillis() ? a : b;
+    }
+
+    /**
+     * Mark the start of a call to the endpoint; must be paired with {@link #release}
+     */
+    public void acquire(ModelEndpoint endpoint) {
+        endpoint.outstanding.incrementAndGet();
+        endpoint.requests.increment();
+    }
+
+    /**
+     * Record how a call ended. Cancelled calls (lost hedges, missed deadlines) still count
+     * their elapsed time towards the endpoint's latency, since it was at least that slow.
+     */
+    public void release(ModelEndpoint endpoint, SignalType signal, long elapsedNanos) {
+        endpoint.outstanding.decrementAndGet();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+
+        if (signal == SignalType.ON_ERROR) {
+            endpoint.failures.increment();
+            int consecutive = endpoint.consecutiveFailures.incrementAndGet();
+            if (consecutive >= ejectAfterFailures) {
+                eject(endpoint, consecutive + " consecutive failures");
+            }
+            return;
+        }
+
+        endpoint.recordLatency(elapsedMs);
+        if (signal == SignalType.ON_COMPLETE) {
+            endpoint.consecutiveFailures.set(0);
+        }
+        double latency = endpoint.getLatencyMillis();
+        double peers = peerLatencyMillis(endpoint);
+        if (latency > ejectMinLatencyMs && peers > 0 && latency > peers * ejectLatencyFactor) {
+            eject(endpoint, String.format("latency %.0fms vs %.0fms for its peers", latency, peers));
+        }
+    }
+
+    /**
+     * Apply a health probe result to an endpoint
+     */
+    public void setHealthy(ModelEndpoint endpoint, boolean healthy) {
+        if (endpoint.healthy != healthy) {
+            log.info("Model endpoint {} is {}", endpoint.url, healthy ? "UP" : "DOWN");
+        }
+        endpoint.healthy = healthy;
+        if (healthy) {
+            endpoint.consecutiveFailures.set(0);
+        }
+    }
+
+    /**
+     * Re-resolve configured hosts when discovery is enabled; existing endpoints keep their state
+     */
+    public void refresh() {
+        if (!discoveryEnabled) {
+            return;
+        }
+
+        List<String> urls = new ArrayList<>();
+        for (String configured : configuredBaseUrls()) {
+            urls.addAll(resolve(configured));
+        }
+        if (urls.isEmpty()) {
+            return;
+        }
+
+        List<ModelEndpoint> current = endpoints;
+        Map<String, ModelEndpoint> byUrl = new LinkedHashMap<>();
+        for (ModelEndpoint endpoint : current) {
+            byUrl.put(endpoint.url, endpoint);
+        }
+        List<ModelEndpoint> next = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            ModelEndpoint existing = byUrl.remove(url);
+            next.add(existing != null ? existing : register(new ModelEndpoint(url)));
+        }
+        if (byUrl.isEmpty() && next.size() == current.size()) {
+            return;
+        }
+
+        endpoints = List.copyOf(next);
+        for (ModelEndpoint removed : byUrl.values()) {
+            removed.meters.forEach(meterRegistry::remove);
+        }
+        log.info("Model server endpoints changed: {}", urls);
+    }
+
+    public List<ModelEndpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * Per-endpoint routing state for admin panel
+     */
+    public List<Map<String, Object>> getStats() {
+        long now = System.nanoTime();
+        List<Map<String, Object>> stats = new ArrayList<>();
+        for (ModelEndpoint endpoint : endpoints) {
+            stats.add(Map.of(
+                "url", endpoint.url,
+                "healthy", endpoint.healthy,
+                "ejected", endpoint.isEjected(now),
+                "outstanding", endpoint.outstanding.get(),
+                "latencyMs", Math.round(endpoint.getLatencyMillis()),
+                "requests", endpoint.requests.sum(),
+                "failures", endpoint.failures.sum()
+            ));
+        }
+        return stats;
+    }
+
+    private void eject(ModelEndpoint endpoint, String reason) {
+        long now = System.nanoTime();
+        if (endpoint.isEjected(now)) {
+            return;
+        }
+        List<ModelEndpoint> current = endpoints;
+        long ejected = current.stream().filter(e -> e.isEjected(now)).count();
+        if ((ejected + 1) * 100 > (long) current.size() * maxEjectionPercent) {
+            return;
+        }
+        endpoint.ejectedUntil = now + TimeUnit.MILLISECONDS.toNanos(ejectionMs);
+        // Start over once back in rotation instead of being judged on the samples that ejected it
+        endpoint.consecutiveFailures.set(0);
+        endpoint.latencyBits.set(Double.doubleToLongBits(0));
+        log.warn("Ejected model endpoint {} for {}ms: {}", endpoint.url, ejectionMs, reason);
+    }
+
+    /**
+     * Median latency of the other endpoints in rotation, or 0 if there are none with samples
+     */
+    private double peerLatencyMillis(ModelEndpoint self) {
+        long now = System.nanoTime();
+        List<Double> latencies = new ArrayList<>();
+        for (ModelEndpoint endpoint : endpoints) {
+            double latency = endpoint.getLatencyMillis();
+            if (endpoint != self && endpoint.isAvailable(now) && latency > 0) {
+                latencies.add(latency);
+            }
+        }
+        if (latencies.isEmpty()) {
+            return 0;
+        }
+        latencies.sort(null);
+        return latencies.get(latencies.size() / 2);
+    }
+
+    private ModelEndpoint register(ModelEndpoint endpoint) {
+        endpoint.meters.add(Gauge.builder("model.server.endpoint.outstanding", endpoint, e -> e.outstanding.get())
+                .description("In-flight calls to a model server endpoint")
+                .tag("endpoint", endpoint.url)
+                .register(meterRegistry));
+        endpoint.meters.add(Gauge.builder("model.server.endpoint.available", endpoint, e -> e.isAvailable(System.nanoTime()) ? 1 : 0)
+                .description("Whether a model server endpoint is in rotation")
+                .tag("endpoint", endpoint.url)
+                .register(meterRegistry));
+        return endpoint;
+    }
+
+    private List<String> configuredBaseUrls() {
+        return Arrays.stream(configuredUrls.split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .map(url -> url.endsWith("/") ? url.substring(0, url.length() - 1) : url)
+                .distinct()
+                .toList();
+    }
+
+    private List<String> resolve(String baseUrl) {
+        try {
+            URI uri = URI.create(baseUrl);
+            List<String> urls = new ArrayList<>();
+            for (InetAddress address : InetAddress.getAllByName(uri.getHost())) {
+                urls.add(new URI(uri.getScheme(), null, address.getHostAddress(), uri.getPort(), uri.getPath(), null, null).toString());
+            }
+            urls.sort(null);
+            return urls;
+        } catch (UnknownHostException e) {
+            log.warn("Could not resolve model server host in {}: {}", baseUrl, e.getMessage());
+            return List.of();
+        } catch (Exception e) {
+            log.warn("Invalid model server URL {}: {}", baseUrl, e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * One model server replica and its routing state
+     */
+    public static class ModelEndpoint {
+        private final String url;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final AtomicLong latencyBits = new AtomicLong(Double.doubleToLongBits(0));
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final List<Meter> meters = new ArrayList<>(2);
+        private volatile boolean healthy = true;
+        private volatile long ejectedUntil = System.nanoTime();
+
+        ModelEndpoint(String url) {
+            this.url = url;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        double getLatencyMillis() {
+            return Double.longBitsToDouble(latencyBits.get());
+        }
+
+        boolean isEjected(long now) {
+            return now - ejectedUntil < 0;
+        }
+
+        boolean isAvailable(long now) {
+            return healthy && !isEjected(now);
+        }
+
+        private void recordLatency(long millis) {
+            latencyBits.updateAndGet(bits -> {
+                double current = Double.longBitsToDouble(bits);
+                double next = current == 0 ? millis : current + LATENCY_ALPHA * (millis - current);
+                return Double.doubleToLongBits(next);
+            });
+        }
+    }
+}
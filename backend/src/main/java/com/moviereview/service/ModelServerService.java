@@ -1,90 +1,458 @@
 package com.moviereview.service;
 
+import com.moviereview.service.ModelEndpointRouter.ModelEndpoint;
+import com.moviereview.util.LogText;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Service
 public class ModelServerService {
 
+    private static final Logger log = LoggerFactory.getLogger(ModelServerService.class);
+
     @Autowired
     private WebClient webClient;
 
-    @Value("${model.server.timeout:1000}")
-    private int timeoutMs;
+    @Autowired
+    private SentimentCache sentimentCache;
+
+    @Autowired
+    private ModelEndpointRouter endpointRouter;
+
+    @Autowired
+    private LexiconSentimentAnalyzer lexiconAnalyzer;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+
+    @Value("${model.server.deadline-ms:5000}")
+    private long deadlineMs;
+
+    @Value("${model.server.retry.max-retries:2}")
+    private int maxRetries;
+
+    @Value("${model.server.retry.backoff-ms:50}")
+    private long retryBackoffMs;
+
+    @Value("${model.server.retry.max-backoff-ms:500}")
+    private long retryMaxBackoffMs;
+
+    @Value("${model.server.hedge.enabled:false}")
+    private boolean hedgingEnabled;
+
+    @Value("${model.server.hedge.percentile:0.95}")
+    private double hedgePercentile;
+
+    @Value("${model.server.hedge.min-delay-ms:10}")
+    private long hedgeMinDelayMs;
+
+    @Value("${model.server.hedge.max-delay-ms:1000}")
+    private long hedgeMaxDelayMs;
+
+    @Value("${model.server.batch.enabled:false}")
+    private boolean batchingEnabled;
+
+    @Value("${model.server.batch.window-ms:5}")
+    private long batchWindowMs;
+
+    @Value("${model.server.batch.max-size:32}")
+    private int batchMaxSize;
+
+    @Value("${model.server.batch.queue-capacity:1024}")
+    private int batchQueueCapacity;
+
+    @Value("${model.fallback.enabled:false}")
+    private boolean fallbackEnabled;
+
+    @Value("${model.fallback.primary-max-chars:0}")
+    private int lexiconPrimaryMaxChars;
+
+    private volatile boolean modelServerConnected = true; // For admin simulation
+
+    private SentimentBatcher sentimentBatcher;
+
+    // model.server.requests timers by operation and outcome, built once so the hot path only does a map lookup
+    private final Map<String, Timer> requestTimers = new ConcurrentHashMap<>();
+    private DistributionSummary batchSizes;
+
+    // Configured under resilience4j.*.instances.modelServer
+    private CircuitBreaker circuitBreaker;
+    private Bulkhead bulkhead;
+
+    private Retry retrySpec;
 
-    private boolean modelServerConnected = true; // For admin simulation
+    // Latencies of successful /analyze calls; the hedge delay tracks their percentile
+    private final LatencyWindow analyzeLatencies = new LatencyWindow(512, 1000);
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder hedgesSent = new LongAdder();
+    private final LongAdder hedgesWon = new LongAdder();
+    private final LongAdder fallbackAnalyses = new LongAdder();
+    private final LongAdder shortTextAnalyses = new LongAdder();
+
+    @PostConstruct
+    void startBatcher() {
+        circuitBreaker = circuitBreakerRegistry.circuitBreaker("modelServer");
+        bulkhead = bulkheadRegistry.bulkhead("modelServer");
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.info("Model server circuit breaker: {}", event.getStateTransition()));
+
+        // Analyses are pure functions of the text, so resending one is always safe
+        retrySpec = Retry.backoff(maxRetries, Duration.ofMillis(retryBackoffMs))
+                .maxBackoff(Duration.ofMillis(retryMaxBackoffMs))
+                .jitter(0.5)
+                .filter(ModelServerService::isRetryable)
+                .doBeforeRetry(signal -> {
+                    retries.increment();
+                    log.debug("Retrying model server call after: {}", signal.failure().getMessage());
+                })
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+        FunctionCounter.builder("model.server.retries", retries, LongAdder::sum)
+                .description("Model server calls resent after a transient failure")
+                .register(meterRegistry);
+        FunctionCounter.builder("model.server.hedges", hedgesSent, LongAdder::sum)
+                .tag("result", "sent").register(meterRegistry);
+        FunctionCounter.builder("model.server.hedges", hedgesWon, LongAdder::sum)
+                .tag("result", "won").register(meterRegistry);
+        FunctionCounter.builder("model.fallback.analyses", fallbackAnalyses, LongAdder::sum)
+                .description("Analyses done in-process by the lexicon analyzer")
+                .tag("reason", "model_unavailable").register(meterRegistry);
+        FunctionCounter.builder("model.fallback.analyses", shortTextAnalyses, LongAdder::sum)
+                .description("Analyses done in-process by the lexicon analyzer")
+                .tag("reason", "short_text").register(meterRegistry);
+        if (fallbackEnabled || lexiconPrimaryMaxChars > 0) {
+            log.info("Lexicon sentiment analyzer enabled (fallback: {}, primary for texts up to {} chars)",
+                    fallbackEnabled, lexiconPrimaryMaxChars);
+        }
+        if (hedgingEnabled && !batchingEnabled) {
+            log.info("Model server hedging enabled (p{} of recent calls, {}-{}ms)",
+                    Math.round(hedgePercentile * 100), hedgeMinDelayMs, hedgeMaxDelayMs);
+        }
+
+        if (batchingEnabled) {
+            sentimentBatcher = new SentimentBatcher(batchWindowMs, batchMaxSize, batchQueueCapacity, this::analyzeBatch);
+            sentimentBatcher.start();
+            batchSizes = DistributionSummary.builder("model.server.batch.size")
+                    .description("Texts per /analyze/batch call")
+                    .register(meterRegistry);
+            Gauge.builder("model.server.batch.queued", sentimentBatcher, SentimentBatcher::getQueuedCount)
+                    .description("Analyses waiting for the next batch")
+                    .register(meterRegistry);
+            log.info("Sentiment batching enabled (window: {}ms, max size: {})", batchWindowMs, batchMaxSize);
+        }
+    }
+
+    @PreDestroy
+    void stopBatcher() {
+        if (sentimentBatcher != null) {
+            sentimentBatcher.stop();
+        }
+    }
 
     /**
      * Analyze sentiment of review text
      */
     public SentimentResult analyzeSentiment(String reviewText) {
-        if (!modelServerConnected) {
-            throw new ModelServerException("Model server connection is disabled (admin simulation)");
+        return analyzeSentimentAsync(reviewText).block();
+    }
+
+    /**
+     * Analyze sentiment of review text without blocking the calling thread
+     */
+    public Mono<SentimentResult> analyzeSentimentAsync(String reviewText) {
+        // Short texts skip the model server entirely; scoring them locally takes microseconds
+        if (lexiconPrimaryMaxChars > 0 && reviewText.trim().length() <= lexiconPrimaryMaxChars) {
+            shortTextAnalyses.increment();
+            return Mono.fromSupplier(() -> lexiconAnalyzer.analyze(reviewText));
         }
 
-        try {
-            System.out.println("🤖 Calling model server for sentiment analysis: " + reviewText.substring(0, Math.min(50, reviewText.length())) + "...");
-            
-            Map<String, Object> response = webClient.post()
-                    .uri("/analyze")
+        Mono<SentimentResult> analysis = modelServerConnected
+                ? sentimentCache.get(reviewText, this::loadSentiment)
+                : Mono.error(new ModelServerException("Model server connection is disabled (admin simulation)"));
+        if (!fallbackEnabled) {
+            return analysis;
+        }
+
+        // Degraded mode: score locally instead of rejecting; the result is not cached so the
+        // model server's answer replaces it once the server is back
+        return analysis.onErrorResume(ModelServerException.class, e -> {
+            fallbackAnalyses.increment();
+            log.debug("Using lexicon sentiment analyzer: {}", e.getMessage());
+            return Mono.fromSupplier(() -> lexiconAnalyzer.analyze(reviewText));
+        });
+    }
+
+    /**
+     * Fetch a fresh analysis from the model server (cache miss path)
+     */
+    private Mono<SentimentResult> loadSentiment(String reviewText) {
+        Mono<SentimentResult> analysis;
+        if (sentimentBatcher != null) {
+            analysis = Mono.fromFuture(() -> sentimentBatcher.submit(reviewText));
+        } else if (hedgingEnabled) {
+            analysis = hedged(() -> callAnalyze(reviewText));
+        } else {
+            analysis = callAnalyze(reviewText);
+        }
+
+        // One deadline covers every attempt, backoff and hedge. The breaker sits outside the bulkhead
+        // and deadline: when open it rejects without taking a permit, and deadline misses count as failures
+        return timed("analyze", analysis
+                .switchIfEmpty(Mono.error(() -> new ModelServerException("Invalid response from model server")))
+                .retryWhen(retrySpec)
+                .timeout(Duration.ofMillis(deadlineMs)))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .doOnNext(result -> log.debug("Model server response: {} (score: {}, rating: {} stars)", result.getSentiment(), result.getScore(), result.getRating()))
+                .onErrorMap(e -> {
+                    if (e instanceof CallNotPermittedException) {
+                        return new ModelServerException("Model server is unavailable - analysis cannot be done at this moment");
+                    }
+                    if (e instanceof BulkheadFullException) {
+                        return new ModelServerException("Model server is busy - analysis cannot be done at this moment");
+                    }
+                    log.warn("Failed to connect to model server: {}", e.getMessage());
+                    return new ModelServerException("Model server is down - analysis cannot be done at this moment");
+                });
+    }
+
+    /**
+     * Send a single text to the model server
+     */
+    private Mono<SentimentResult> callAnalyze(String reviewText) {
+        return routed(endpoint -> {
+            log.debug("Calling model server {} for sentiment analysis: {}", endpoint.getUrl(), LogText.summarize(reviewText));
+            long start = System.nanoTime();
+
+            return webClient.post()
+                    .uri(endpoint.getUrl() + "/analyze")
                     .bodyValue(Map.of("text", reviewText))
                     .retrieve()
-                    .bodyToMono(Map.class)
-                    .timeout(Duration.ofMillis(timeoutMs))
-                    .block();
+                    .bodyToMono(AnalyzeResponse.class)
+                    .map(response -> {
+                        SentimentResult result = toSentimentResult(response);
+                        if (result == null) {
+                            log.warn("Invalid response from model server");
+                            throw new ModelServerException("Invalid response from model server");
+                        }
+                        analyzeLatencies.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                        return result;
+                    })
+                    .switchIfEmpty(Mono.error(() -> new ModelServerException("Invalid response from model server")));
+        });
+    }
 
-            if (response != null && response.containsKey("sentiment")) {
-                String sentiment = (String) response.get("sentiment");
-                Double score = response.get("score") != null ? 
-                    Double.valueOf(response.get("score").toString()) : 0.0;
-                Double rating = response.get("rating") != null ? 
-                    Double.valueOf(response.get("rating").toString()) : 3.0;
-                
-                System.out.println("✅ Model server response: " + sentiment + " (score: " + score + ", rating: " + rating + " stars)");
-                return new SentimentResult(sentiment, score, rating);
-            } else {
-                System.err.println("❌ Invalid response from model server");
-                throw new ModelServerException("Invalid response from model server");
-            }
-            
-        } catch (Exception e) {
-            System.err.println("❌ Failed to connect to model server: " + e.getMessage());
-            throw new ModelServerException("Model server is down - analysis cannot be done at this moment");
+    /**
+     * Run a call against the endpoint picked by the router, tracking it as outstanding until it ends
+     */
+    private <T> Mono<T> routed(Function<ModelEndpoint, Mono<T>> call) {
+        return Mono.defer(() -> {
+            ModelEndpoint endpoint = endpointRouter.choose();
+            long start = System.nanoTime();
+            endpointRouter.acquire(endpoint);
+            return call.apply(endpoint)
+                    .doFinally(signal -> endpointRouter.release(endpoint, signal, System.nanoTime() - start));
+        });
+    }
+
+    /**
+     * Run a call, and if it has not answered within the hedge delay, run a second copy and take
+     * whichever answers first. A call that fails while it is the only one in flight fails the
+     * whole attempt, so the retry policy rather than the hedge decides what happens next.
+     */
+    private Mono<SentimentResult> hedged(Supplier<Mono<SentimentResult>> call) {
+        return Mono.create(sink -> {
+            Disposable.Composite inFlight = Disposables.composite();
+            AtomicInteger running = new AtomicInteger(1);
+            AtomicBoolean settled = new AtomicBoolean(false);
+
+            Consumer<Boolean> launch = isHedge -> inFlight.add(call.get().subscribe(
+                    result -> {
+                        if (settled.compareAndSet(false, true)) {
+                            if (isHedge) {
+                                hedgesWon.increment();
+                            }
+                            sink.success(result);
+                            inFlight.dispose();
+                        }
+                    },
+                    error -> {
+                        if (running.decrementAndGet() == 0 && settled.compareAndSet(false, true)) {
+                            sink.error(error);
+                        }
+                    }));
+
+            launch.accept(false);
+            inFlight.add(Mono.delay(Duration.ofMillis(hedgeDelayMs())).subscribe(tick -> {
+                // Skip the hedge if the primary already answered or failed
+                if (!settled.get() && running.getAndIncrement() > 0) {
+                    hedgesSent.increment();
+                    log.debug("Hedging model server call");
+                    launch.accept(true);
+                }
+            }));
+            sink.onDispose(inFlight);
+        });
+    }
+
+    /**
+     * Hedge delay: the configured percentile of recent call latencies, clamped to the configured range
+     */
+    private long hedgeDelayMs() {
+        long observed = analyzeLatencies.percentile(hedgePercentile, 20);
+        if (observed < 0) {
+            return hedgeMaxDelayMs;
         }
+        return Math.max(hedgeMinDelayMs, Math.min(hedgeMaxDelayMs, observed));
     }
 
     /**
-     * Check if model server is available
+     * Connection failures, 5xx and 429 responses are worth another try; bad requests and bad payloads are not
      */
-    public boolean isModelServerAvailable() {
-        if (!modelServerConnected) {
-            return false;
+    private static boolean isRetryable(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError() || response.getStatusCode().value() == 429;
         }
+        return e instanceof WebClientRequestException;
+    }
 
-        try {
-            System.out.println("🔍 Checking model server health...");
-            
-            Map<String, Object> response = webClient.get()
-                    .uri("/health")
+    /**
+     * Send a batch of texts to the model server in a single request
+     */
+    private Mono<List<SentimentResult>> analyzeBatch(List<String> texts) {
+        batchSizes.record(texts.size());
+
+        return timed("analyze_batch", routed(endpoint -> {
+            log.debug("Calling model server {} for batch sentiment analysis: {} texts", endpoint.getUrl(), texts.size());
+            return webClient.post()
+                    .uri(endpoint.getUrl() + "/analyze/batch")
+                    .bodyValue(Map.of("texts", texts))
                     .retrieve()
-                    .bodyToMono(Map.class)
-                    .timeout(Duration.ofMillis(3000))
-                    .block();
-
-            boolean available = response != null && "healthy".equals(response.get("status"));
-            System.out.println(available ? "✅ Model server is healthy" : "❌ Model server is unhealthy");
-            return available;
-            
-        } catch (Exception e) {
-            System.err.println("❌ Model server health check failed: " + e.getMessage());
+                    .bodyToMono(BatchAnalyzeResponse.class)
+                    .map(response -> {
+                        if (response.results() == null) {
+                            throw new ModelServerException("Invalid batch response from model server");
+                        }
+                        List<SentimentResult> results = new ArrayList<>(response.results().size());
+                        for (AnalyzeResponse item : response.results()) {
+                            results.add(toSentimentResult(item));
+                        }
+                        return results;
+                    });
+        }));
+    }
+
+    /**
+     * Record latency and outcome (success, timeout, failure) of a model server call
+     */
+    private <T> Mono<T> timed(String operation, Mono<T> call) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return call
+                    .doOnSuccess(result -> recordRequest(operation, "success", start))
+                    .doOnError(e -> recordRequest(operation, e instanceof TimeoutException ? "timeout" : "failure", start));
+        });
+    }
+
+    private void recordRequest(String operation, String outcome, long startNanos) {
+        requestTimers.computeIfAbsent(operation + ":" + outcome, key -> Timer.builder("model.server.requests")
+                        .description("Model server call latency")
+                        .tag("operation", operation)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Map a model server analysis payload to a result, or null if it carries no sentiment
+     */
+    private static SentimentResult toSentimentResult(AnalyzeResponse response) {
+        if (response == null || response.sentiment() == null) {
+            return null;
+        }
+        Double score = response.score() != null ? response.score() : 0.0;
+        Double rating = response.rating() != null ? response.rating() : 3.0;
+        return new SentimentResult(response.sentiment(), score, rating);
+    }
+
+    /**
+     * Check if model server is available: probes every endpoint in parallel, updates their
+     * routing health, and reports available if any of them is healthy
+     */
+    public boolean isModelServerAvailable() {
+        if (!modelServerConnected) {
             return false;
         }
+
+        log.debug("Checking model server health...");
+        endpointRouter.refresh();
+        Boolean available = Flux.fromIterable(endpointRouter.getEndpoints())
+                .flatMap(endpoint -> checkEndpoint(endpoint)
+                        .doOnNext(healthy -> endpointRouter.setHealthy(endpoint, healthy)))
+                .reduce(false, (any, healthy) -> any || healthy)
+                .block();
+
+        log.debug(Boolean.TRUE.equals(available) ? "Model server is healthy" : "Model server is unhealthy");
+        return Boolean.TRUE.equals(available);
+    }
+
+    private Mono<Boolean> checkEndpoint(ModelEndpoint endpoint) {
+        return timed("health", webClient.get()
+                .uri(endpoint.getUrl() + "/health")
+                .retrieve()
+                .bodyToMono(HealthResponse.class)
+                .timeout(Duration.ofMillis(3000)))
+                .map(response -> "healthy".equals(response.status()))
+                .defaultIfEmpty(false)
+                .onErrorResume(e -> {
+                    log.debug("Model server health check failed for {}: {}", endpoint.getUrl(), e.getMessage());
+                    return Mono.just(false);
+                });
     }
 
     /**
@@ -92,7 +460,7 @@ public class ModelServerService {
      */
     public void toggleModelConnection() {
         modelServerConnected = !modelServerConnected;
-        System.out.println("🔧 Model server connection toggled: " + (modelServerConnected ? "ENABLED" : "DISABLED"));
+        log.info("Model server connection toggled: {}", modelServerConnected ? "ENABLED" : "DISABLED");
     }
 
     /**
@@ -103,17 +471,87 @@ public class ModelServerService {
     }
 
     /**
-     * Sentiment analysis result with rating
+     * Get model client statistics for admin panel
+     */
+    public Map<String, Object> getClientStats() {
+        CircuitBreaker.Metrics breakerMetrics = circuitBreaker.getMetrics();
+        Bulkhead.Metrics bulkheadMetrics = bulkhead.getMetrics();
+        return Map.of(
+            "cache", sentimentCache.getStats(),
+            "circuitBreaker", Map.of(
+                "state", circuitBreaker.getState().name(),
+                "failureRate", breakerMetrics.getFailureRate(),
+                "slowCallRate", breakerMetrics.getSlowCallRate(),
+                "bufferedCalls", breakerMetrics.getNumberOfBufferedCalls(),
+                "notPermittedCalls", breakerMetrics.getNumberOfNotPermittedCalls()
+            ),
+            "bulkhead", Map.of(
+                "availableConcurrentCalls", bulkheadMetrics.getAvailableConcurrentCalls(),
+                "maxAllowedConcurrentCalls", bulkheadMetrics.getMaxAllowedConcurrentCalls()
+            ),
+            "retries", retries.sum(),
+            "hedging", Map.of(
+                "enabled", hedgingEnabled && sentimentBatcher == null,
+                "delayMs", hedgeDelayMs(),
+                "sent", hedgesSent.sum(),
+                "won", hedgesWon.sum()
+            ),
+            "deadlineMs", deadlineMs,
+            "fallback", Map.of(
+                "enabled", fallbackEnabled,
+                "primaryMaxChars", lexiconPrimaryMaxChars,
+                "modelUnavailable", fallbackAnalyses.sum(),
+                "shortText", shortTextAnalyses.sum()
+            ),
+            "endpoints", endpointRouter.getStats()
+        );
+    }
+
+    /**
+     * Body of an /analyze response, and of each item in an /analyze/batch response; other fields are ignored
+     */
+    record AnalyzeResponse(String sentiment, Double score, Double rating) {
+    }
+
+    record BatchAnalyzeResponse(List<AnalyzeResponse> results) {
+    }
+
+    record HealthResponse(String status) {
+    }
+
+    /**
+     * Sentiment analysis result with rating, tagged with the engine that produced it
      */
     public static class SentimentResult {
+        public static final String ENGINE_MODEL = "textblob";
+        public static final String ENGINE_LEXICON = "lexicon";
+        public static final String SENTIMENT_PENDING = "pending";
+
         private final String sentiment;
         private final Double score;
         private final Double rating;
+        private final String engine;
 
         public SentimentResult(String sentiment, Double score, Double rating) {
+            this(sentiment, score, rating, ENGINE_MODEL);
+        }
+
+        public SentimentResult(String sentiment, Double score, Double rating, String engine) {
             this.sentiment = sentiment;
             this.score = score;
             this.rating = rating;
+            this.engine = engine;
+        }
+
+        /**
+         * Placeholder for a review stored before it could be analyzed; scored later by DeferredScoringService
+         */
+        public static SentimentResult pending() {
+            return new SentimentResult(SENTIMENT_PENDING, null, null, null);
+        }
+
+        public boolean isPending() {
+            return SENTIMENT_PENDING.equals(sentiment);
         }
 
         public String getSentiment() {
@@ -127,6 +565,10 @@ public class ModelServerService {
         public Double getRating() {
             return rating;
         }
+
+        public String getEngine() {
+            return engine;
+        }
     }
 
     /**
@@ -0,0 +1,390 @@
+package com.moviereview.service;
+
+import com.moviereview.entity.MovieStats;
+import com.moviereview.entity.Review;
+import com.moviereview.repository.MovieStatsRepository;
+import com.moviereview.repository.ReviewJdbcRepository;
+import com.moviereview.service.ModelServerService.SentimentResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * In-memory per-movie review aggregates, seeded once from the movie_stats table and then
+ * updated in O(1) on every saved review so reads never hit the database.
+ */
+@Service
+public class MovieStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(MovieStatsService.class);
+
+    // How long the seed waits for in-flight review writes before giving up until the next attempt
+    private static final long SNAPSHOT_WAIT_SECONDS = 5;
+
+    @Autowired
+    private ReviewJdbcRepository reviewJdbcRepository;
+
+    @Autowired
+    private MovieStatsRepository movieStatsRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Reads movie_stats and the buffered reviews' rows from one snapshot so they agree with each other
+    private TransactionTemplate seedTransaction;
+
+    private final ConcurrentHashMap<String, MovieAggregate> aggregates = new ConcurrentHashMap<>();
+
+    // Sum of totalReviews over all aggregates, kept alongside them so the overall count is O(1)
+    private final AtomicLong totalReviews = new AtomicLong();
+
+    // Reviews saved (or re-scored) before the seed completed; replayed unless the seed snapshot already has them
+    private final List<Review> pendingReviews = new ArrayList<>();
+    private final List<Review> pendingRescores = new ArrayList<>();
+    private final ReentrantLock seedLock = new ReentrantLock();
+    private final AtomicBoolean seeding = new AtomicBoolean(false);
+    private volatile boolean seeded = false;
+
+    // Until seeded, review writes hold the read side from before their transaction until they are
+    // recorded here; the seed takes the write side while its snapshot is taken
+    private final ReentrantReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+
+    @PostConstruct
+    void createSeedTransaction() {
+        seedTransaction = new TransactionTemplate(transactionManager);
+        seedTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        seedTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedOnStartup() {
+        trySeed();
+    }
+
+    /**
+     * Load aggregates from the database; returns false if another thread is seeding or the database is down
+     */
+    public boolean trySeed() {
+        if (seeded || !seeding.compareAndSet(false, true)) {
+            return seeded;
+        }
+
+        try {
+            // Wait for the writes in flight to be recorded (they are buffered, and replayed below
+            // unless the snapshot has them) and hold new ones back until the snapshot is taken, so no
+            // write can commit before the snapshot and be recorded only after the seed is done
+            if (!snapshotLock.writeLock().tryLock(SNAPSHOT_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("Review writes still in flight, movie statistics will be seeded later");
+                return false;
+            }
+
+            log.info("Seeding movie statistics from database...");
+            int movies = seedTransaction.execute(status -> {
+                Map<String, MovieAggregate> loaded = new HashMap<>();
+                try {
+                    // The first query takes the snapshot
+                    for (MovieStats stats : movieStatsRepository.findAll()) {
+                        loaded.put(stats.getMovieId(), MovieAggregate.fromStats(stats));
+                    }
+                } finally {
+                    snapshotLock.writeLock().unlock();
+                }
+
+                seedLock.lock();
+                try {
+                    aggregates.clear();
+                    aggregates.putAll(loaded);
+                    totalReviews.set(loaded.values().stream().mapToLong(MovieAggregate::getTotalReviews).sum());
+                    replayPending();
+                    seeded = true;
+                } finally {
+                    seedLock.unlock();
+                }
+                return loaded.size();
+            });
+
+            log.info("Movie statistics seeded for {} movies", movies);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.warn("Failed to seed movie statistics: {}", e.getMessage());
+            return false;
+        } finally {
+            // Still held if the transaction could not be started
+            if (snapshotLock.isWriteLockedByCurrentThread()) {
+                snapshotLock.writeLock().unlock();
+            }
+            seeding.set(false);
+        }
+    }
+
+    /**
+     * Run a review write together with the recordReview/recordRescore calls that follow its commit.
+     * Until the aggregates are seeded, the seed snapshot is taken either before such a write starts
+     * or after it has been recorded, never in between; once seeded this is just {@code write.get()}.
+     */
+    public <T> T guardWrite(Supplier<T> write) {
+        if (seeded) {
+            return write.get();
+        }
+
+        snapshotLock.readLock().lock();
+        try {
+            return write.get();
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Apply the reviews saved (or re-scored) while seeding, except what the seed snapshot already
+     * counts. Checked by ID against the snapshot itself rather than against its highest ID, since
+     * IDs come from pooled sequence blocks and a lower ID can commit after a higher one.
+     * Runs inside the seed transaction, holding the seed lock.
+     */
+    private void replayPending() {
+        Set<Long> ids = new HashSet<>();
+        for (Review review : pendingReviews) {
+            if (review.getId() != null) {
+                ids.add(review.getId());
+            }
+        }
+        for (Review review : pendingRescores) {
+            if (review.getId() != null) {
+                ids.add(review.getId());
+            }
+        }
+        Map<Long, Review> seededRows = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (Review row : reviewJdbcRepository.findByIds(ids.stream().mapToLong(Long::longValue).toArray())) {
+                seededRows.put(row.getId(), row);
+            }
+        }
+
+        for (Review review : pendingReviews) {
+            if (review.getId() != null && !seededRows.containsKey(review.getId())) {
+                apply(review);
+            }
+        }
+        pendingReviews.clear();
+        // A row the snapshot has with its scores already was counted with them
+        for (Review review : pendingRescores) {
+            Review row = seededRows.get(review.getId());
+            if (row == null || SentimentResult.SENTIMENT_PENDING.equals(row.getSentiment())) {
+                applyRescore(review);
+            }
+        }
+        pendingRescores.clear();
+    }
+
+    /**
+     * Add a saved review to its movie's aggregate
+     */
+    public void recordReview(Review review) {
+        if (seeded) {
+            apply(review);
+            return;
+        }
+
+        seedLock.lock();
+        try {
+            if (seeded) {
+                apply(review);
+            } else {
+                pendingReviews.add(review);
+            }
+        } finally {
+            seedLock.unlock();
+        }
+    }
+
+    /**
+     * Add the analysis of a review that was counted while its sentiment was pending
+     */
+    public void recordRescore(Review review) {
+        if (seeded) {
+            applyRescore(review);
+            return;
+        }
+
+        seedLock.lock();
+        try {
+            if (seeded) {
+                applyRescore(review);
+            } else {
+                pendingRescores.add(review);
+            }
+        } finally {
+            seedLock.unlock();
+        }
+    }
+
+    private void applyRescore(Review review) {
+        aggregates.computeIfPresent(review.getMovieId(), (movieId, current) -> current.withScores(review));
+    }
+
+    private void apply(Review review) {
+        totalReviews.incrementAndGet();
+        aggregates.compute(review.getMovieId(),
+                (movieId, current) -> (current != null ? current : MovieAggregate.EMPTY).plus(review));
+    }
+
+    /**
+     * Get aggregate statistics for a movie; until seeding succeeds, reads the movie's movie_stats row
+     */
+    public Map<String, Object> getMovieStats(String movieId) {
+        if (seeded || trySeed()) {
+            return aggregates.getOrDefault(movieId, MovieAggregate.EMPTY).toMap(movieId);
+        }
+
+        return movieStatsRepository.findById(movieId)
+                .map(MovieAggregate::fromStats)
+                .orElse(MovieAggregate.EMPTY)
+                .toMap(movieId);
+    }
+
+    /**
+     * Get the number of reviews across all movies; until seeding succeeds, sums the movie_stats rows
+     */
+    public long getTotalReviews() {
+        if (seeded || trySeed()) {
+            return totalReviews.get();
+        }
+
+        return movieStatsRepository.sumTotalReviews();
+    }
+
+    /**
+     * Check whether reads are being served from memory
+     */
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    /**
+     * Immutable aggregate for one movie; matches the columns of the movie_stats table
+     */
+    static final class MovieAggregate {
+
+        private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+        static final MovieAggregate EMPTY = new MovieAggregate(0, 0.0, 0, 0.0, 0, 0, 0, 0, null);
+
+        private final long totalReviews;
+        private final double ratingSum;
+        private final long ratingCount;
+        private final double sentimentScoreSum;
+        private final long sentimentScoreCount;
+        private final long positiveReviews;
+        private final long negativeReviews;
+        private final long neutralReviews;
+        private final LocalDateTime latestReview;
+
+        private MovieAggregate(long totalReviews, double ratingSum, long ratingCount,
+                               double sentimentScoreSum, long sentimentScoreCount,
+                               long positiveReviews, long negativeReviews, long neutralReviews,
+                               LocalDateTime latestReview) {
+            this.totalReviews = totalReviews;
+            this.ratingSum = ratingSum;
+            this.ratingCount = ratingCount;
+            this.sentimentScoreSum = sentimentScoreSum;
+            this.sentimentScoreCount = sentimentScoreCount;
+            this.positiveReviews = positiveReviews;
+            this.negativeReviews = negativeReviews;
+            this.neutralReviews = neutralReviews;
+            this.latestReview = latestReview;
+        }
+
+        long getTotalReviews() {
+            return totalReviews;
+        }
+
+        static MovieAggregate fromStats(MovieStats stats) {
+            return new MovieAggregate(
+                stats.getTotalReviews(),
+                stats.getRatingSum(),
+                stats.getRatingCount(),
+                stats.getSentimentScoreSum(),
+                stats.getSentimentScoreCount(),
+                stats.getPositiveReviews(),
+                stats.getNegativeReviews(),
+                stats.getNeutralReviews(),
+                stats.getLatestReview()
+            );
+        }
+
+        MovieAggregate plus(Review review) {
+            String sentiment = review.getSentiment();
+            LocalDateTime createdAt = review.getCreatedAt();
+            return new MovieAggregate(
+                totalReviews + 1,
+                ratingSum + (review.getRating() != null ? review.getRating() : 0.0),
+                ratingCount + (review.getRating() != null ? 1 : 0),
+                sentimentScoreSum + (review.getSentimentScore() != null ? review.getSentimentScore() : 0.0),
+                sentimentScoreCount + (review.getSentimentScore() != null ? 1 : 0),
+                positiveReviews + ("positive".equals(sentiment) ? 1 : 0),
+                negativeReviews + ("negative".equals(sentiment) ? 1 : 0),
+                neutralReviews + ("neutral".equals(sentiment) ? 1 : 0),
+                latestReview == null || (createdAt != null && createdAt.isAfter(latestReview)) ? createdAt : latestReview
+            );
+        }
+
+        /**
+         * Same review count, plus the scores of a review that was counted before it was analyzed
+         */
+        MovieAggregate withScores(Review review) {
+            String sentiment = review.getSentiment();
+            return new MovieAggregate(
+                totalReviews,
+                ratingSum + (review.getRating() != null ? review.getRating() : 0.0),
+                ratingCount + (review.getRating() != null ? 1 : 0),
+                sentimentScoreSum + (review.getSentimentScore() != null ? review.getSentimentScore() : 0.0),
+                sentimentScoreCount + (review.getSentimentScore() != null ? 1 : 0),
+                positiveReviews + ("positive".equals(sentiment) ? 1 : 0),
+                negativeReviews + ("negative".equals(sentiment) ? 1 : 0),
+                neutralReviews + ("neutral".equals(sentiment) ? 1 : 0),
+                latestReview
+            );
+        }
+
+        Map<String, Object> toMap(String movieId) {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("movieId", movieId);
+            stats.put("totalReviews", totalReviews);
+            stats.put("ratingSum", ratingSum);
+            stats.put("avgRating", ratingCount > 0 ? ratingSum / ratingCount : null);
+            stats.put("avgSentimentScore", sentimentScoreCount > 0 ? sentimentScoreSum / sentimentScoreCount : null);
+            stats.put("positiveReviews", positiveReviews);
+            stats.put("negativeReviews", negativeReviews);
+            stats.put("neutralReviews", neutralReviews);
+            stats.put("latestReview", latestReview != null ? latestReview.format(TIMESTAMP_FORMAT) : null);
+            return stats;
+        }
+    }
+}
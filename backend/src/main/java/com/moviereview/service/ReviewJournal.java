@@ -0,0 +1,261 @@
+package com.moviereview.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only review journal file with a separate checkpoint of the committed offset.
+ *
+ * Each record is framed as [length:int][crc32:int][payload]. Appends are written and
+ * fsynced as a group by the caller; a torn or corrupt frame at the tail (a crash mid-write,
+ * never acknowledged) is truncated away on open. Once every record has been committed the
+ * file is truncated back to zero so it does not grow without bound. Records the database will
+ * never accept are copied to a dead-letter file before being committed past.
+ */
+class ReviewJournal {
+
+    private static final int HEADER_BYTES = 8;
+    private static final int MAX_RECORD_BYTES = 1024 * 1024;
+
+    private final Path checkpointFile;
+    private final Path deadLetterFile;
+    private final FileChannel channel;
+
+    // Held while appending and while compacting so the two never interleave
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile long durableEnd;
+    private volatile long committedOffset;
+    // End of the records found on open; these may already be in the database if the last checkpoint was lost
+    private volatile long recoveredEnd;
+
+    ReviewJournal(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path journalFile = directory.resolve("reviews.journal");
+        this.checkpointFile = directory.resolve("reviews.checkpoint");
+        this.deadLetterFile = directory.resolve("reviews.deadletter");
+        this.channel = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        long checkpoint = readCheckpoint();
+        if (checkpoint > channel.size()) {
+            // The file was compacted but the checkpoint reset was lost. Reset it on disk now: left
+            // stale, it would mark records appended from here on as committed once the file grew
+            // past it again, and a crash before the next commit would lose them.
+            checkpoint = 0;
+            writeCheckpoint(0);
+        }
+        long validEnd = scanValidEnd(checkpoint);
+        if (validEnd < channel.size()) {
+            channel.truncate(validEnd);
+            channel.force(true);
+        }
+        this.committedOffset = checkpoint;
+        this.durableEnd = validEnd;
+        this.recoveredEnd = validEnd;
+    }
+
+    /**
+     * Write a group of records and fsync once for the whole group
+     */
+    void appendAll(List<byte[]> payloads) throws IOException {
+        int total = 0;
+        for (byte[] payload : payloads) {
+            total += HEADER_BYTES + payload.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(total);
+        CRC32 crc = new CRC32();
+        for (byte[] payload : payloads) {
+            crc.reset();
+            crc.update(payload);
+            buffer.putInt(payload.length).putInt((int) crc.getValue()).put(payload);
+        }
+        buffer.flip();
+
+        writeLock.lock();
+        try {
+            long position = durableEnd;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            channel.force(false);
+            durableEnd = position;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Read up to maxRecords durable records starting at the given offset
+     */
+    List<JournalRecord> read(long fromOffset, int maxRecords) throws IOException {
+        List<JournalRecord> records = new ArrayList<>();
+        long position = fromOffset;
+        long end = durableEnd;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        while (records.size() < maxRecords && position + HEADER_BYTES <= end) {
+            header.clear();
+            readFully(header, position);
+            header.flip();
+            int length = header.getInt();
+            header.getInt(); // CRC was verified when the journal was opened or written by this process
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(payload, position + HEADER_BYTES);
+            position += HEADER_BYTES + length;
+            records.add(new JournalRecord(payload.array(), position));
+        }
+        return records;
+    }
+
+    /**
+     * Record that everything before the given offset is stored in the database
+     */
+    void commit(long offset) throws IOException {
+        writeCheckpoint(offset);
+        committedOffset = offset;
+    }
+
+    /**
+     * Append one line to the dead-letter file and fsync it; called before committing past the record
+     */
+    void deadLetter(byte[] line) throws IOException {
+        try (FileChannel out = FileChannel.open(deadLetterFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.allocate(line.length + 1).put(line).put((byte) '\n');
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(true);
+        }
+    }
+
+    Path getDeadLetterFile() {
+        return deadLetterFile;
+    }
+
+    /**
+     * Truncate the journal if every durable record has been committed; returns true if compacted
+     */
+    boolean compactIfDrained() throws IOException {
+        if (committedOffset != durableEnd || durableEnd == 0) {
+            return false;
+        }
+        writeLock.lock();
+        try {
+            if (committedOffset != durableEnd) {
+                return false;
+            }
+            // Truncate before resetting the checkpoint; a checkpoint past EOF is reset to 0 on open
+            channel.truncate(0);
+            channel.force(true);
+            durableEnd = 0;
+            recoveredEnd = 0;
+            writeCheckpoint(0);
+            committedOffset = 0;
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    long getDurableEnd() {
+        return durableEnd;
+    }
+
+    long getCommittedOffset() {
+        return committedOffset;
+    }
+
+    /**
+     * Check whether a record was written before this process started (and may already be in the database)
+     */
+    boolean isRecovered(JournalRecord record) {
+        return record.endOffset <= recoveredEnd;
+    }
+
+    void close() throws IOException {
+        channel.close();
+    }
+
+    private long scanValidEnd(long from) throws IOException {
+        long size = channel.size();
+        long position = Math.min(from, size);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        CRC32 crc = new CRC32();
+        while (position + HEADER_BYTES <= size) {
+            header.clear();
+            readFully(header, position);
+            header.flip();
+            int length = header.getInt();
+            int expectedCrc = header.getInt();
+            if (length <= 0 || length > MAX_RECORD_BYTES || position + HEADER_BYTES + length > size) {
+                break;
+            }
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(payload, position + HEADER_BYTES);
+            crc.reset();
+            crc.update(payload.array());
+            if ((int) crc.getValue() != expectedCrc) {
+                break;
+            }
+            position += HEADER_BYTES + length;
+        }
+        return position;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Unexpected end of review journal");
+            }
+        }
+    }
+
+    private long readCheckpoint() throws IOException {
+        if (!Files.exists(checkpointFile)) {
+            return 0;
+        }
+        String value = Files.readString(checkpointFile, StandardCharsets.UTF_8).trim();
+        return value.isEmpty() ? 0 : Long.parseLong(value);
+    }
+
+    private void writeCheckpoint(long offset) throws IOException {
+        Path temp = checkpointFile.resolveSibling("reviews.checkpoint.tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            out.write(ByteBuffer.wrap(Long.toString(offset).getBytes(StandardCharsets.UTF_8)));
+            out.force(true);
+        }
+        Files.move(temp, checkpointFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * One journal record and the offset just past it
+     */
+    static class JournalRecord {
+        private final byte[] payload;
+        private final long endOffset;
+
+        JournalRecord(byte[] payload, long endOffset) {
+            this.payload = payload;
+            this.endOffset = endOffset;
+        }
+
+        byte[] getPayload() {
+            return payload;
+        }
+
+        long getEndOffset() {
+            return endOffset;
+        }
+    }
+}
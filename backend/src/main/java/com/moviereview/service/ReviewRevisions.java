@@ -0,0 +1,75 @@
+package com.moviereview.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Revision counters for the review read endpoints, bumped whenever a saved review changes what
+ * they return; used as HTTP entity tags so unchanged resources are revalidated with a 304 without
+ * touching the database.
+ *
+ * Every tag carries a random per-process epoch, so tags from before a restart or from another
+ * replica never match.
+ */
+@Component
+public class ReviewRevisions {
+
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+
+    private final ConcurrentHashMap<String, AtomicLong> movieRevisions = new ConcurrentHashMap<>();
+    private final AtomicLong globalRevision = new AtomicLong();
+
+    private final LongAdder notModified = new LongAdder();
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @PostConstruct
+    void registerMetrics() {
+        FunctionCounter.builder("review.reads.not.modified", notModified, LongAdder::sum)
+                .description("Review reads answered with 304 Not Modified")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record a saved (or re-scored) review
+     */
+    public void bump(String movieId) {
+        movieRevisions.computeIfAbsent(movieId, id -> new AtomicLong()).incrementAndGet();
+        globalRevision.incrementAndGet();
+    }
+
+    /**
+     * Strong entity tag for one movie's reviews and statistics
+     */
+    public String movieTag(String movieId) {
+        AtomicLong revision = movieRevisions.get(movieId);
+        return tag("m" + (revision != null ? revision.get() : 0));
+    }
+
+    /**
+     * Strong entity tag for views over all movies; {@code variant} covers other inputs to the response
+     */
+    public String globalTag(String variant) {
+        return tag("g" + globalRevision.get() + variant);
+    }
+
+    private String tag(String revision) {
+        return "\"" + epoch + "-" + revision + "\"";
+    }
+
+    /**
+     * Count a request answered with 304 Not Modified
+     */
+    public void recordNotModified() {
+        notModified.increment();
+    }
+}
@@ -0,0 +1,775 @@
+package com.moviereview.service;
+
+import com.moviereview.entity.Review;
+import com.moviereview.repository.ReviewJdbcRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory inverted index over review text, ranked with BM25.
+ *
+ * Each term maps to a posting list of document ordinals (ascending, since documents are only
+ * appended) and term frequencies in parallel primitive arrays; per-document fields (review ID,
+ * movie, sentiment, length) are parallel arrays indexed by ordinal. A query matches documents
+ * containing every term: the shortest posting list drives the scan (newest first), the others
+ * are advanced with galloping search, filters are array lookups, and the best matches are kept
+ * in a bounded heap. Posting lists keep the highest score any block of 64 postings can
+ * contribute, so once the heap is full, blocks that cannot beat its weakest entry are skipped
+ * (block-max pruning); that keeps queries on very common words from scoring every match.
+ * Built once from the reviews table, then appended to on every saved review.
+ */
+@Service
+public class ReviewSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewSearchIndex.class);
+
+    // BM25 parameters (the usual defaults)
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final int MIN_TERM_LENGTH = 2;
+    private static final int MAX_TERM_LENGTH = 40;
+
+    // Frequent English words carry no ranking signal but would have the longest posting lists
+    private static final Set<String> STOPWORDS = Set.of(
+        "an", "and", "are", "as", "at", "be", "but", "by", "for", "from", "had", "has", "have", "he",
+        "her", "his", "in", "into", "is", "it", "its", "of", "on", "or", "she", "so", "than", "that",
+        "the", "their", "them", "then", "there", "they", "this", "to", "was", "were", "which", "who",
+        "will", "with", "you", "your", "me", "my", "we", "our", "been", "all", "just", "very"
+    );
+
+    private static final String[] SENTIMENTS = {null, "positive", "negative", "neutral", ModelServerService.SentimentResult.SENTIMENT_PENDING};
+
+    @Autowired
+    private ReviewJdbcRepository reviewJdbcRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${review.search.enabled:true}")
+    private boolean enabled;
+
+    @Value("${review.search.seed-retry-ms:30000}")
+    private long seedRetryMs;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Per-document columns, indexed by ordinal
+    private long[] reviewIds = new long[1024];
+    private int[] movies = new int[1024];
+    private byte[] sentiments = new byte[1024];
+    private int[] lengths = new int[1024];
+    private int docCount = 0;
+    private long totalLength = 0;
+
+    private final HashMap<String, Postings> postings = new HashMap<>();
+    private final HashMap<String, Integer> movieOrdinals = new HashMap<>();
+    // Only reviews still waiting for sentiment need a lookup by ID (to be re-labelled once scored)
+    private final HashMap<Long, Integer> pendingDocs = new HashMap<>();
+
+    // Reviews saved (or re-scored) while the index was being built; applied once it is complete
+    private final List<Review> pendingReviews = new ArrayList<>();
+    private final List<Review> pendingRescores = new ArrayList<>();
+    private final ReentrantLock seedLock = new ReentrantLock();
+    private volatile boolean seeded = false;
+    // Ordinals below this were seeded in ID order, so a review ID can be binary-searched among them
+    private int seededDocs = 0;
+    // Highest seeded ID; only reviews up to it can have been streamed by the seed as well
+    private volatile long lastSeededId = Long.MIN_VALUE;
+
+    private ScheduledExecutorService indexer;
+    private Timer searchTimer;
+
+    @PostConstruct
+    void registerMetrics() {
+        searchTimer = Timer.builder("review.search")
+                .description("Time to match and rank a search query in the index")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("review.search.documents", this, index -> index.docCount)
+                .description("Reviews in the search index")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startIndexer() {
+        if (!enabled) {
+            return;
+        }
+        // Building can take a while at millions of reviews; keep it off the startup thread
+        indexer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "search-indexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        indexer.execute(this::seedOrRetry);
+    }
+
+    @PreDestroy
+    void stopIndexer() {
+        if (indexer != null) {
+            indexer.shutdownNow();
+        }
+    }
+
+    private void seedOrRetry() {
+        if (!seed() && !indexer.isShutdown()) {
+            indexer.schedule(this::seedOrRetry, seedRetryMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Index every stored review, streaming them in ID order over a database cursor
+     */
+    private boolean seed() {
+        long start = System.nanoTime();
+        try {
+            log.info("Building review search index...");
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            transaction.executeWithoutResult(status -> reviewJdbcRepository.streamAllById(this::add));
+
+            seedLock.lock();
+            try {
+                seededDocs = docCount;
+                if (seededDocs > 0) {
+                    lastSeededId = reviewIds[seededDocs - 1];
+                }
+                for (Review review : pendingReviews) {
+                    if (review.getId() != null && !isSeeded(review)) {
+                        add(review);
+                    }
+                }
+                pendingReviews.clear();
+                for (Review review : pendingRescores) {
+                    applyRescore(review);
+                }
+                pendingRescores.clear();
+                seeded = true;
+            } finally {
+                seedLock.unlock();
+            }
+
+            log.info("Review search index built: {} reviews, {} terms in {} ms", docCount, postings.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to build review search index, retrying in {} ms: {}", seedRetryMs, e.getMessage());
+            clear();
+            return false;
+        }
+    }
+
+    /**
+     * Add a saved review to the index
+     */
+    public void recordReview(Review review) {
+        if (!enabled) {
+            return;
+        }
+        if (seeded) {
+            addUnlessSeeded(review);
+            return;
+        }
+
+        seedLock.lock();
+        try {
+            if (seeded) {
+                addUnlessSeeded(review);
+            } else {
+                pendingReviews.add(review);
+            }
+        } finally {
+            seedLock.unlock();
+        }
+    }
+
+    /**
+     * Update the sentiment of a review that was indexed while its sentiment was pending
+     */
+    public void recordRescore(Review review) {
+        if (!enabled) {
+            return;
+        }
+        if (seeded) {
+            applyRescore(review);
+            return;
+        }
+
+        seedLock.lock();
+        try {
+            if (seeded) {
+                applyRescore(review);
+            } else {
+                pendingRescores.add(review);
+            }
+        } finally {
+            seedLock.unlock();
+        }
+    }
+
+    private void applyRescore(Review review) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = pendingDocs.remove(review.getId());
+            if (doc != null) {
+                sentiments[doc] = sentimentCode(review.getSentiment());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Add a review recorded after the seed, unless the seed already streamed it: a review committed
+     * before the seed's snapshot can still be recorded once the seed is done
+     */
+    private void addUnlessSeeded(Review review) {
+        if (!isSeeded(review)) {
+            add(review);
+        }
+    }
+
+    private void add(Review review) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        int length = tokenize(review.getReviewText(), term -> termFrequencies.merge(term, 1, Integer::sum));
+
+        lock.writeLock().lock();
+        try {
+            int doc = docCount;
+            if (doc == reviewIds.length) {
+                int capacity = doc + (doc >> 1);
+                reviewIds = Arrays.copyOf(reviewIds, capacity);
+                movies = Arrays.copyOf(movies, capacity);
+                sentiments = Arrays.copyOf(sentiments, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+            }
+            reviewIds[doc] = review.getId();
+            movies[doc] = movieOrdinals.computeIfAbsent(review.getMovieId(), movieId -> movieOrdinals.size());
+            sentiments[doc] = sentimentCode(review.getSentiment());
+            lengths[doc] = length;
+            if (ModelServerService.SentimentResult.SENTIMENT_PENDING.equals(review.getSentiment())) {
+                pendingDocs.put(review.getId(), doc);
+            }
+            totalLength += length;
+            float averageLength = (float) totalLength / (doc + 1);
+            for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+                int frequency = entry.getValue();
+                // Rounded up, so bounds derived from it are never below a real score
+                float impact = Math.nextUp((float) (frequency / (frequency + K1 * (1 - B + B * length / averageLength))));
+                postings.computeIfAbsent(entry.getKey(), term -> new Postings()).add(doc, frequency, impact, averageLength);
+            }
+            docCount = doc + 1;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void clear() {
+        lock.writeLock().lock();
+        try {
+            docCount = 0;
+            totalLength = 0;
+            postings.clear();
+            movieOrdinals.clear();
+            pendingDocs.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean isSeeded(Review review) {
+        return review.getId() != null && review.getId() <= lastSeededId && findSeeded(review.getId()) >= 0;
+    }
+
+    private int findSeeded(long reviewId) {
+        // The seeded ordinals never change once seeded, but the array may be reallocated by add
+        lock.readLock().lock();
+        try {
+            return Arrays.binarySearch(reviewIds, 0, seededDocs, reviewId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Best matches for a query, highest BM25 score first. Every query term must occur in a match;
+     * movieId and sentiment are optional exact filters.
+     */
+    public SearchResult search(String query, String movieId, String sentiment, int limit) {
+        if (!seeded) {
+            throw new IllegalStateException("Search index is not ready");
+        }
+
+        long start = System.nanoTime();
+        List<String> terms = new ArrayList<>();
+        tokenize(query, term -> {
+            if (!terms.contains(term)) {
+                terms.add(term);
+            }
+        });
+
+        lock.readLock().lock();
+        try {
+            SearchResult result = match(terms, movieId, sentiment, Math.max(1, limit));
+            searchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private SearchResult match(List<String> terms, String movieId, String sentiment, int limit) {
+        if (terms.isEmpty() || docCount == 0) {
+            return SearchResult.EMPTY;
+        }
+        int movie = -1;
+        if (movieId != null) {
+            Integer ordinal = movieOrdinals.get(movieId);
+            if (ordinal == null) {
+                return SearchResult.EMPTY;
+            }
+            movie = ordinal;
+        }
+        byte sentimentFilter = sentiment != null ? sentimentCode(sentiment) : -1;
+
+        Postings[] lists = new Postings[terms.size()];
+        for (int t = 0; t < lists.length; t++) {
+            lists[t] = postings.get(terms.get(t));
+            if (lists[t] == null) {
+                return SearchResult.EMPTY;
+            }
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+        double[] idf = new double[lists.length];
+        for (int t = 0; t < lists.length; t++) {
+            idf[t] = Math.log(1 + (docCount - lists[t].size + 0.5) / (lists[t].size + 0.5));
+        }
+        double averageLength = Math.max(1.0, (double) totalLength / docCount);
+
+        TopDocs top = new TopDocs(limit);
+        int[] cursors = new int[lists.length];
+        for (int t = 1; t < lists.length; t++) {
+            cursors[t] = lists[t].size - 1;
+        }
+        long matches = 0;
+        boolean exactCount = true;
+        Postings lead = lists[0];
+        boolean filtered = movie >= 0 || sentimentFilter >= 0;
+
+        // Newest first, so a document tying with the heap's weakest entry (which is newer) never displaces it
+        candidates:
+        for (int block = (lead.size - 1) / Postings.BLOCK_SIZE; block >= 0; block--) {
+            int from = block * Postings.BLOCK_SIZE;
+            int to = Math.min(from + Postings.BLOCK_SIZE, lead.size);
+            // Once the heap is full, skip blocks whose best possible score cannot enter it (bounded by
+            // the overlapping blocks of the other terms). Skipped matches are only countable for free
+            // when every posting is one, or when another term has no postings in the block's range
+            double otherBound = Double.POSITIVE_INFINITY;
+            if (top.isFull()) {
+                otherBound = 0;
+                boolean possible = true;
+                for (int t = 1; t < lists.length && possible; t++) {
+                    cursors[t] = lists[t].retreat(cursors[t], lead.docs[to - 1]);
+                    double termBound = lists[t].rangeBound(lead.docs[from], cursors[t], idf[t], averageLength);
+                    possible = termBound > 0;
+                    otherBound += termBound;
+                }
+                if (!possible || lead.blockBound(block, idf[0], averageLength) + otherBound <= top.minScore()) {
+                    if (!filtered && lists.length == 1) {
+                        matches += to - from;
+                    } else if (possible) {
+                        exactCount = false;
+                    }
+                    continue;
+                }
+            }
+
+            blockDocs:
+            for (int i = to - 1; i >= from; i--) {
+                int doc = lead.docs[i];
+                if ((movie >= 0 && movies[doc] != movie) || (sentimentFilter >= 0 && sentiments[doc] != sentimentFilter)) {
+                    continue;
+                }
+                double norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+                int frequency = lead.frequency(i);
+                double score = idf[0] * frequency * (K1 + 1) / (frequency + norm);
+                // Same test per document, before paying for the intersection
+                if (top.isFull() && score + otherBound <= top.minScore()) {
+                    if (!filtered && lists.length == 1) {
+                        matches++;
+                    } else {
+                        exactCount = false;
+                    }
+                    continue;
+                }
+
+                for (int t = 1; t < lists.length; t++) {
+                    cursors[t] = lists[t].retreat(cursors[t], doc);
+                    if (cursors[t] < 0) {
+                        break candidates;
+                    }
+                    if (lists[t].docs[cursors[t]] != doc) {
+                        continue blockDocs;
+                    }
+                }
+                matches++;
+
+                for (int t = 1; t < lists.length; t++) {
+                    frequency = lists[t].frequency(cursors[t]);
+                    score += idf[t] * frequency * (K1 + 1) / (frequency + norm);
+                }
+                top.offer(doc, score);
+            }
+        }
+
+        int[] ranked = top.ranked();
+        long[] ids = new long[ranked.length];
+        double[] scores = new double[ranked.length];
+        for (int i = 0; i < ranked.length; i++) {
+            ids[i] = reviewIds[top.docs[ranked[i]]];
+            scores[i] = top.scores[ranked[i]];
+        }
+        return new SearchResult(ids, scores, matches, exactCount);
+    }
+
+    /**
+     * Split text into lowercase letter/digit runs, dropping stopwords and very short or long tokens;
+     * returns the number of tokens kept
+     */
+    static int tokenize(String text, Consumer<String> sink) {
+        if (text == null) {
+            return 0;
+        }
+        int kept = 0;
+        StringBuilder token = new StringBuilder();
+        for (int i = 0, n = text.length(); i <= n; i++) {
+            char c = i < n ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                token.append(Character.toLowerCase(c));
+                continue;
+            }
+            if (token.length() >= MIN_TERM_LENGTH && token.length() <= MAX_TERM_LENGTH) {
+                String term = token.toString();
+                if (!STOPWORDS.contains(term)) {
+                    sink.accept(term);
+                    kept++;
+                }
+            }
+            token.setLength(0);
+        }
+        return kept;
+    }
+
+    private static byte sentimentCode(String sentiment) {
+        for (byte code = 1; code < SENTIMENTS.length; code++) {
+            if (SENTIMENTS[code].equals(sentiment)) {
+                return code;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Random one- and two-term queries drawn from indexed reviews, for ReviewSearchIndexBenchmark
+     */
+    public List<String> sampleQueries(int count, long seed) {
+        Random random = new Random(seed);
+        List<String> queries = new ArrayList<>(count);
+        lock.readLock().lock();
+        try {
+            if (docCount == 0) {
+                return queries;
+            }
+            List<String> vocabulary = new ArrayList<>(postings.keySet());
+            for (int i = 0; i < count; i++) {
+                String first = vocabulary.get(random.nextInt(vocabulary.size()));
+                queries.add(random.nextBoolean() ? first : first + " " + vocabulary.get(random.nextInt(vocabulary.size())));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return queries;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    /**
+     * Get index size for admin panel
+     */
+    public Map<String, Object> getStatus() {
+        lock.readLock().lock();
+        try {
+            long postingEntries = 0;
+            for (Postings list : postings.values()) {
+                postingEntries += list.size;
+            }
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("enabled", enabled);
+            status.put("ready", seeded);
+            status.put("documents", docCount);
+            status.put("terms", postings.size());
+            status.put("postings", postingEntries);
+            // Primitive arrays only: about 5 bytes per posting, 17 per document (ignores term strings and map overhead)
+            status.put("approxArrayBytes", postingEntries * 5 + postingEntries / Postings.BLOCK_SIZE * 8 + (long) reviewIds.length * 17);
+            return status;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Matching review IDs in rank order, their scores, and how many reviews matched in total
+     * (a lower bound when parts of the posting lists were skipped as unable to reach the top results)
+     */
+    public static class SearchResult {
+        static final SearchResult EMPTY = new SearchResult(new long[0], new double[0], 0, true);
+
+        private final long[] reviewIds;
+        private final double[] scores;
+        private final long totalMatches;
+        private final boolean totalMatchesExact;
+
+        SearchResult(long[] reviewIds, double[] scores, long totalMatches, boolean totalMatchesExact) {
+            this.reviewIds = reviewIds;
+            this.scores = scores;
+            this.totalMatches = totalMatches;
+            this.totalMatchesExact = totalMatchesExact;
+        }
+
+        public long[] getReviewIds() {
+            return reviewIds;
+        }
+
+        public double[] getScores() {
+            return scores;
+        }
+
+        public long getTotalMatches() {
+            return totalMatches;
+        }
+
+        public boolean isTotalMatchesExact() {
+            return totalMatchesExact;
+        }
+    }
+
+    /**
+     * One term's documents (ascending ordinals) and in-document frequencies
+     */
+    private static final class Postings {
+        static final int BLOCK_SIZE = 64;
+
+        private int[] docs = new int[4];
+        private byte[] frequencies = new byte[4];
+        private int size = 0;
+
+        // Highest length-normalized frequency ("impact") per block of BLOCK_SIZE postings, with the
+        // lowest average document length it was computed against; see bound()
+        private float[] blockMaxImpacts = new float[1];
+        private float[] blockMinAverages = new float[] {Float.MAX_VALUE};
+
+        void add(int doc, int frequency, float impact, float averageLength) {
+            if (size == docs.length) {
+                int capacity = size + (size >> 1) + 1;
+                docs = Arrays.copyOf(docs, capacity);
+                frequencies = Arrays.copyOf(frequencies, capacity);
+            }
+            int block = size / BLOCK_SIZE;
+            if (block == blockMaxImpacts.length) {
+                blockMaxImpacts = Arrays.copyOf(blockMaxImpacts, block * 2);
+                blockMinAverages = Arrays.copyOf(blockMinAverages, block * 2);
+                Arrays.fill(blockMinAverages, block, block * 2, Float.MAX_VALUE);
+            }
+            docs[size] = doc;
+            frequencies[size] = (byte) Math.min(frequency, 255);
+            size++;
+
+            blockMaxImpacts[block] = Math.max(blockMaxImpacts[block], impact);
+            blockMinAverages[block] = Math.min(blockMinAverages[block], averageLength);
+        }
+
+        double blockBound(int block, double idf, double averageLength) {
+            return bound(blockMaxImpacts[block], blockMinAverages[block], idf, averageLength);
+        }
+
+        /**
+         * Upper bound for the postings from {@code last} back to the first with a document >= firstDoc;
+         * 0 if there are none
+         */
+        double rangeBound(int firstDoc, int last, double idf, double averageLength) {
+            if (last < 0 || docs[last] < firstDoc) {
+                return 0;
+            }
+            int first = retreat(last, firstDoc - 1) + 1;
+            float impact = 0;
+            float referenceAverage = Float.MAX_VALUE;
+            for (int block = first / BLOCK_SIZE; block <= last / BLOCK_SIZE; block++) {
+                impact = Math.max(impact, blockMaxImpacts[block]);
+                referenceAverage = Math.min(referenceAverage, blockMinAverages[block]);
+            }
+            return bound(impact, referenceAverage, idf, averageLength);
+        }
+
+        /**
+         * Upper bound of the BM25 term score for postings whose impact was computed against an average
+         * length of at least {@code referenceAverage}. A longer average raises an impact by at most the
+         * same factor, and a shorter one only lowers it, so the bound holds as the average drifts.
+         */
+        private static double bound(float impact, float referenceAverage, double idf, double averageLength) {
+            return idf * (K1 + 1) * impact * Math.max(1.0, averageLength / referenceAverage);
+        }
+
+        int frequency(int index) {
+            return frequencies[index] & 0xFF;
+        }
+
+        /**
+         * Last index at or before {@code from} whose document is <= target (galloping, then binary search)
+         */
+        int retreat(int from, int target) {
+            if (from < 0 || docs[from] <= target) {
+                return from;
+            }
+            int step = 1;
+            int high = from;
+            int low = from - 1;
+            while (low >= 0 && docs[low] > target) {
+                high = low;
+                step <<= 1;
+                low = from - step;
+            }
+            int index = Arrays.binarySearch(docs, Math.max(low, 0), high, target);
+            return index >= 0 ? index : -index - 2;
+        }
+    }
+
+    /**
+     * Bounded min-heap of the best-scoring documents; on equal scores the newer review wins
+     */
+    private static final class TopDocs {
+        private final int[] docs;
+        private final double[] scores;
+        private int size = 0;
+
+        TopDocs(int capacity) {
+            docs = new int[capacity];
+            scores = new double[capacity];
+        }
+
+        boolean isFull() {
+            return size == docs.length;
+        }
+
+        double minScore() {
+            return scores[0];
+        }
+
+        void offer(int doc, double score) {
+            if (size < docs.length) {
+                docs[size] = doc;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (worse(0, doc, score)) {
+                docs[0] = doc;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        // True if the entry at index ranks below (doc, score)
+        private boolean worse(int index, int doc, double score) {
+            return scores[index] < score || (scores[index] == score && docs[index] < doc);
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >> 1;
+                if (!worse(index, docs[parent], scores[parent])) {
+                    break;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= size) {
+                    return;
+                }
+                if (child + 1 < size && worse(child + 1, docs[child], scores[child])) {
+                    child++;
+                }
+                if (!worse(child, docs[index], scores[index])) {
+                    return;
+                }
+                swap(index, child);
+                index = child;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int doc = docs[a];
+            docs[a] = docs[b];
+            docs[b] = doc;
+            double score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+        }
+
+        /**
+         * Heap positions ordered best first
+         */
+        int[] ranked() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> worse(a, docs[b], scores[b]) ? 1 : worse(b, docs[a], scores[a]) ? -1 : 0);
+            int[] ranked = new int[size];
+            for (int i = 0; i < size; i++) {
+                ranked[i] = order[i];
+            }
+            return ranked;
+        }
+    }
+}
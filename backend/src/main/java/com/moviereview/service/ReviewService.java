@@ -1,27 +1,124 @@
 package com.moviereview.service;
 
 import com.moviereview.entity.Review;
+import com.moviereview.repository.ReviewJdbcRepository;
 import com.moviereview.repository.ReviewRepository;
 import com.moviereview.service.ModelServerService.SentimentResult;
 import com.moviereview.service.ModelServerService.ModelServerException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
 
 @Service
 public class ReviewService {
 
+    private static final Logger log = LoggerFactory.getLogger(ReviewService.class);
+
+    private static final Set<String> SEARCHABLE_SENTIMENTS = Set.of("positive", "negative", "neutral", "pending");
+
     @Autowired
     private ReviewRepository reviewRepository;
 
+    @Autowired
+    private ReviewJdbcRepository reviewJdbcRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @Autowired
     private ModelServerService modelServerService;
 
-    private boolean databaseConnected = true; // Default to true - only disable through admin for failure simulation
+    @Autowired
+    private MovieStatsService movieStatsService;
+
+    @Autowired
+    private WriteBehindReviewWriter writeBehindWriter;
+
+    @Autowired
+    private LatestReviewsBuffer latestReviews;
+
+    @Autowired
+    private ReviewRevisions reviewRevisions;
+
+    @Autowired
+    private EventBroadcaster eventBroadcaster;
+
+    @Autowired
+    private ReviewSearchIndex searchIndex;
+
+    @Autowired
+    private SchemaMigrationService schemaMigrations;
+
+    @Value("${review.batch.max-movies:50}")
+    private int maxBatchMovies;
+
+    @Value("${review.batch.max-per-movie:100}")
+    private int maxBatchReviewsPerMovie;
+
+    @Value("${review.history.max-page-size:100}")
+    private int maxHistoryPageSize;
+
+    @Value("${review.bulk.max-size:500}")
+    private int maxBulkSize;
+
+    @Value("${review.bulk.analysis-concurrency:16}")
+    private int bulkAnalysisConcurrency;
+
+    @Value("${review.search.max-results:50}")
+    private int maxSearchResults;
+
+    @Value("${review.search.max-query-length:200}")
+    private int maxSearchQueryLength;
+
+    @Value("${review.deferred-scoring.enabled:false}")
+    private boolean deferredScoringEnabled;
+
+    @Value("${review.persistence.max-threads:10}")
+    private int persistenceMaxThreads;
+
+    @Value("${review.persistence.max-queued:10000}")
+    private int persistenceMaxQueued;
+
+    private volatile boolean databaseConnected = true; // Default to true - only disable through admin for failure simulation
+
+    // Bounded offload for blocking JPA writes issued from the non-blocking submit path
+    private Scheduler persistenceScheduler;
+
+    @PostConstruct
+    void createPersistenceScheduler() {
+        persistenceScheduler = Schedulers.newBoundedElastic(persistenceMaxThreads, persistenceMaxQueued, "review-persistence");
+    }
+
+    @PreDestroy
+    void disposePersistenceScheduler() {
+        persistenceScheduler.dispose();
+    }
 
     /**
      * Get all reviews for a movie
@@ -32,12 +129,107 @@ public class ReviewService {
         }
 
         try {
-            System.out.println("🗄️ Fetching reviews for movie: " + movieId);
+            log.debug("Fetching reviews for movie: {}", movieId);
             List<Review> reviews = reviewRepository.findByMovieIdOrderByCreatedAtDesc(movieId);
-            System.out.println("✅ Found " + reviews.size() + " reviews for movie: " + movieId);
+            log.debug("Found {} reviews for movie: {}", reviews.size(), movieId);
             return reviews;
         } catch (DataAccessException e) {
-            System.err.println("❌ Database error while fetching reviews: " + e.getMessage());
+            log.warn("Database error while fetching reviews: {}", e.getMessage());
+            throw new DatabaseException("Database is down - review history does not work at this moment");
+        }
+    }
+
+    /**
+     * Get the latest reviews and aggregate statistics for several movies in one call.
+     * Reviews come from a single windowed query; statistics come from the in-memory aggregates.
+     */
+    public Map<String, Object> getReviewsForMovies(List<String> movieIds, int perMovie) {
+        if (!databaseConnected) {
+            throw new DatabaseException("Database connection is disabled - review history is not available");
+        }
+
+        LinkedHashSet<String> uniqueIds = new LinkedHashSet<>();
+        for (String movieId : movieIds) {
+            if (movieId != null && !movieId.isBlank()) {
+                uniqueIds.add(movieId.trim());
+            }
+        }
+        if (uniqueIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one movie ID is required");
+        }
+        if (uniqueIds.size() > maxBatchMovies) {
+            throw new IllegalArgumentException("At most " + maxBatchMovies + " movie IDs are allowed");
+        }
+        int limit = Math.max(1, Math.min(perMovie, maxBatchReviewsPerMovie));
+
+        try {
+            log.debug("Fetching latest reviews for {} movies", uniqueIds.size());
+            Map<String, List<Review>> reviewsByMovie = new LinkedHashMap<>();
+            for (String movieId : uniqueIds) {
+                reviewsByMovie.put(movieId, new ArrayList<>());
+            }
+            for (Review review : reviewJdbcRepository.findLatestByMovieIds(uniqueIds, limit)) {
+                reviewsByMovie.get(review.getMovieId()).add(review);
+            }
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            for (Map.Entry<String, List<Review>> entry : reviewsByMovie.entrySet()) {
+                result.put(entry.getKey(), Map.of(
+                    "reviews", entry.getValue(),
+                    "stats", movieStatsService.getMovieStats(entry.getKey())
+                ));
+            }
+            return result;
+        } catch (DataAccessException e) {
+            log.warn("Database error while fetching reviews for movies: {}", e.getMessage());
+            throw new DatabaseException("Database is down - review history does not work at this moment");
+        }
+    }
+
+    /**
+     * Get one page of a movie's reviews, newest first, starting after the given cursor
+     */
+    public ReviewPage getReviewHistory(String movieId, String cursor, int pageSize) {
+        if (!databaseConnected) {
+            throw new DatabaseException("Database connection is disabled - review history is not available");
+        }
+
+        int size = Math.max(1, Math.min(pageSize, maxHistoryPageSize));
+        Limit limit = Limit.of(size + 1); // One extra row tells us whether another page exists
+
+        try {
+            List<Review> rows;
+            if (cursor == null || cursor.isBlank()) {
+                rows = reviewRepository.findPageByMovieId(movieId, limit);
+            } else {
+                ReviewCursor position = ReviewCursor.decode(cursor);
+                rows = reviewRepository.findPageByMovieIdBefore(movieId, position.createdAt, position.id, limit);
+            }
+
+            boolean hasMore = rows.size() > size;
+            List<Review> reviews = hasMore ? rows.subList(0, size) : rows;
+            String nextCursor = hasMore ? ReviewCursor.encode(reviews.get(reviews.size() - 1)) : null;
+            return new ReviewPage(reviews, nextCursor);
+        } catch (DataAccessException e) {
+            log.warn("Database error while fetching review history: {}", e.getMessage());
+            throw new DatabaseException("Database is down - review history does not work at this moment");
+        }
+    }
+
+    /**
+     * Stream all of a movie's reviews, newest first, over a database cursor.
+     * Rows are handed to the consumer one at a time so memory stays flat regardless of review count.
+     */
+    public void streamReviewsByMovieId(String movieId, Consumer<Review> consumer) {
+        if (!databaseConnected) {
+            throw new DatabaseException("Database connection is disabled - review history is not available");
+        }
+
+        try {
+            log.debug("Streaming reviews for movie: {}", movieId);
+            transactionTemplate.executeWithoutResult(status -> reviewJdbcRepository.streamByMovieId(movieId, consumer));
+        } catch (DataAccessException e) {
+            log.warn("Database error while streaming reviews: {}", e.getMessage());
             throw new DatabaseException("Database is down - review history does not work at this moment");
         }
     }
@@ -46,7 +238,7 @@ public class ReviewService {
      * Submit a new review
      */
     public ReviewSubmissionResult submitReview(String movieId, String reviewText) {
-        System.out.println("📝 Submitting review for movie: " + movieId);
+        log.debug("Submitting review for movie: {}", movieId);
         
         // Validate input
         if (movieId == null || movieId.trim().isEmpty()) {
@@ -55,60 +247,319 @@ public class ReviewService {
         if (reviewText == null || reviewText.trim().isEmpty()) {
             throw new IllegalArgumentException("Review text is required");
         }
+        checkStorable(movieId, reviewText, "");
 
         // First, try to get sentiment analysis from model server
         SentimentResult sentimentResult;
         try {
             sentimentResult = modelServerService.analyzeSentiment(reviewText);
         } catch (ModelServerException e) {
-            // Model server is down - reject the review
-            System.err.println("❌ Cannot submit review: " + e.getMessage());
+            if (deferredScoringEnabled) {
+                // Model server is down - store the review now and score it once the server is back
+                log.debug("Deferring sentiment analysis: {}", e.getMessage());
+                sentimentResult = SentimentResult.pending();
+            } else {
+                // Model server is down - reject the review
+                log.warn("Cannot submit review: {}", e.getMessage());
+                throw new ReviewSubmissionException(e.getMessage());
+            }
+        }
+
+        return persistAnalyzedReview(movieId, reviewText, sentimentResult);
+    }
+
+    /**
+     * Submit a new review without blocking the calling thread.
+     * The model call is non-blocking; the JPA save runs on a bounded persistence scheduler.
+     */
+    public Mono<ReviewSubmissionResult> submitReviewAsync(String movieId, String reviewText) {
+        log.debug("Submitting review (async) for movie: {}", movieId);
+
+        if (movieId == null || movieId.trim().isEmpty()) {
+            return Mono.error(new IllegalArgumentException("Movie ID is required"));
+        }
+        if (reviewText == null || reviewText.trim().isEmpty()) {
+            return Mono.error(new IllegalArgumentException("Review text is required"));
+        }
+        try {
+            checkStorable(movieId, reviewText, "");
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+
+        return analyzeOrDefer(reviewText)
+                .onErrorMap(ModelServerException.class, e -> {
+                    log.warn("Cannot submit review: {}", e.getMessage());
+                    return new ReviewSubmissionException(e.getMessage());
+                })
+                .flatMap(sentimentResult -> Mono.fromCallable(() -> persistAnalyzedReview(movieId, reviewText, sentimentResult))
+                        .subscribeOn(persistenceScheduler))
+                .onErrorMap(RejectedExecutionException.class,
+                        e -> new ReviewSubmissionException("Backend is busy - review cannot be saved at this moment"));
+    }
+
+    /**
+     * Analyze and store many reviews at once.
+     * Analyses run concurrently; all rows are then inserted in one transaction using JDBC batching.
+     */
+    public List<Review> submitReviewsBulk(List<Map<String, String>> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one review is required");
+        }
+        if (requests.size() > maxBulkSize) {
+            throw new IllegalArgumentException("At most " + maxBulkSize + " reviews are allowed per request");
+        }
+        for (int i = 0; i < requests.size(); i++) {
+            Map<String, String> request = requests.get(i);
+            if (request == null || request.get("movieId") == null || request.get("movieId").trim().isEmpty()) {
+                throw new IllegalArgumentException("Movie ID is required (review " + i + ")");
+            }
+            if (request.get("reviewText") == null || request.get("reviewText").trim().isEmpty()) {
+                throw new IllegalArgumentException("Review text is required (review " + i + ")");
+            }
+            checkStorable(request.get("movieId"), request.get("reviewText"), " (review " + i + ")");
+        }
+        if (!databaseConnected) {
+            throw new DatabaseException("Database connection is disabled - reviews cannot be saved");
+        }
+        checkSchemaMigrated();
+
+        log.debug("Submitting {} reviews in bulk", requests.size());
+
+        List<SentimentResult> sentimentResults;
+        try {
+            sentimentResults = Flux.fromIterable(requests)
+                    .flatMapSequential(request -> analyzeOrDefer(request.get("reviewText")),
+                                       bulkAnalysisConcurrency)
+                    .collectList()
+                    .block();
+        } catch (ModelServerException e) {
+            log.warn("Cannot submit reviews: {}", e.getMessage());
             throw new ReviewSubmissionException(e.getMessage());
         }
 
+        List<Review> reviews = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            SentimentResult sentimentResult = sentimentResults.get(i);
+            reviews.add(analyzedReview(requests.get(i).get("movieId"), requests.get(i).get("reviewText"), sentimentResult));
+        }
+
+        return movieStatsService.guardWrite(() -> {
+            try {
+                // saveAll persists the given instances, so reviews (in request order) carry their IDs afterwards
+                transactionTemplate.execute(status -> reviewRepository.saveAll(inMovieOrder(reviews)));
+                log.debug("Saved {} reviews in bulk", reviews.size());
+            } catch (DataAccessException e) {
+                log.warn("Database error while saving reviews in bulk: {}", e.getMessage());
+                throw new DatabaseException("Database is down - reviews could not be saved");
+            }
+            for (Review savedReview : reviews) {
+                onReviewSaved(savedReview);
+            }
+            return reviews;
+        });
+    }
+
+    /**
+     * Refuse writes while the schema lacks migrations the inserts depend on (sentiment_engine,
+     * movie_stats and trend bucket triggers), with a reason that is not mistaken for an outage
+     */
+    private void checkSchemaMigrated() {
+        if (!schemaMigrations.isMigrated()) {
+            throw new DatabaseException("Database schema is not migrated (" + schemaMigrations.getState()
+                    + ") - reviews cannot be saved");
+        }
+    }
+
+    /**
+     * A batch in insert order: grouped by movie, submission order kept within each movie. Every insert
+     * updates its movie's movie_stats and trend bucket rows (database triggers), so concurrent batches
+     * that take those row locks in the same order wait for each other instead of deadlocking.
+     */
+    private static List<Review> inMovieOrder(List<Review> reviews) {
+        List<Review> ordered = new ArrayList<>(reviews);
+        ordered.sort(Comparator.comparing(Review::getMovieId));
+        return ordered;
+    }
+
+    /**
+     * Reject input the reviews table cannot store. Checked up front so such a review is never
+     * analyzed for nothing, nor acknowledged by the write-behind journal and then refused on drain.
+     */
+    private static void checkStorable(String movieId, String reviewText, String position) {
+        if (movieId.codePointCount(0, movieId.length()) > Review.MAX_MOVIE_ID_LENGTH) {
+            throw new IllegalArgumentException("Movie ID must be at most " + Review.MAX_MOVIE_ID_LENGTH + " characters" + position);
+        }
+        if (reviewText.codePointCount(0, reviewText.length()) > Review.MAX_REVIEW_TEXT_LENGTH) {
+            throw new IllegalArgumentException("Review text must be at most " + Review.MAX_REVIEW_TEXT_LENGTH + " characters" + position);
+        }
+        // PostgreSQL text cannot hold NUL characters
+        if (movieId.indexOf('\0') >= 0 || reviewText.indexOf('\0') >= 0) {
+            throw new IllegalArgumentException("Movie ID and review text must not contain NUL characters" + position);
+        }
+    }
+
+    /**
+     * Analyze a review text; with deferred scoring enabled, a model server failure yields a
+     * pending result instead of an error
+     */
+    private Mono<SentimentResult> analyzeOrDefer(String reviewText) {
+        Mono<SentimentResult> analysis = modelServerService.analyzeSentimentAsync(reviewText);
+        if (!deferredScoringEnabled) {
+            return analysis;
+        }
+        return analysis.onErrorResume(ModelServerException.class, e -> {
+            log.debug("Deferring sentiment analysis: {}", e.getMessage());
+            return Mono.just(SentimentResult.pending());
+        });
+    }
+
+    /**
+     * Store an analyzed review, degrading to an unsaved result if the database is down
+     */
+    private ReviewSubmissionResult persistAnalyzedReview(String movieId, String reviewText, SentimentResult sentimentResult) {
+        // Write-behind mode: acknowledge once journaled; the database write happens in the background
+        if (writeBehindWriter.isEnabled()) {
+            Review review = analyzedReview(movieId, reviewText, sentimentResult);
+            if (writeBehindWriter.journal(review)) {
+                log.debug("Review journaled for movie: {}", movieId);
+                return new ReviewSubmissionResult(true, review, submittedMessage(sentimentResult));
+            }
+            // Journal unavailable - fall through to a direct save
+        }
+
         // Check database availability before any database operations
         if (!databaseConnected) {
             // Database is down - analysis was done but can't be stored
-            System.err.println("❌ Review analyzed but cannot be saved: Database is down");
+            log.warn("Review analyzed but cannot be saved: Database is down");
             
             // Create review object without saving (for response only)
-            Review review = new Review();
-            review.setMovieId(movieId);
-            review.setReviewText(reviewText);
-            review.setSentiment(sentimentResult.getSentiment());
-            review.setSentimentScore(sentimentResult.getScore());
-            review.setRating(sentimentResult.getRating());
+            Review review = analyzedReview(movieId, reviewText, sentimentResult);
             
             return new ReviewSubmissionResult(false, review, 
                 "Review was analyzed but could not be saved - database is down. History does not work at this moment.");
         }
+        if (!schemaMigrations.isMigrated()) {
+            log.warn("Review analyzed but cannot be saved: database schema is not migrated ({})", schemaMigrations.getState());
+            return new ReviewSubmissionResult(false, analyzedReview(movieId, reviewText, sentimentResult),
+                "Review was analyzed but could not be saved - the database schema is not migrated. History does not work at this moment.");
+        }
 
+        // Recorded in the read models before the movie stats seed can take its snapshot
+        return movieStatsService.guardWrite(() -> saveAnalyzedReview(movieId, reviewText, sentimentResult));
+    }
+
+    /**
+     * Save an analyzed review and update the read models, degrading to an unsaved result on a database error
+     */
+    private ReviewSubmissionResult saveAnalyzedReview(String movieId, String reviewText, SentimentResult sentimentResult) {
         // Only try database operations if connection is enabled
+        Review savedReview;
         try {
             // Create review object for saving
-            Review review = new Review(movieId, reviewText, 
-                                     sentimentResult.getSentiment(), 
-                                     sentimentResult.getScore(),
-                                     sentimentResult.getRating());
+            Review review = analyzedReview(movieId, reviewText, sentimentResult);
             
-            Review savedReview = reviewRepository.save(review);
-            System.out.println("✅ Review saved successfully with ID: " + savedReview.getId());
-            return new ReviewSubmissionResult(true, savedReview, "Review submitted successfully");
+            savedReview = reviewRepository.save(review);
+            log.debug("Review saved successfully with ID: {}", savedReview.getId());
         } catch (Exception e) {
             // Any database exception - return graceful response
-            System.err.println("❌ Database error while saving review: " + e.getMessage());
+            log.warn("Database error while saving review: {}", e.getMessage());
             
             // Create review object for response
-            Review review = new Review();
-            review.setMovieId(movieId);
-            review.setReviewText(reviewText);
-            review.setSentiment(sentimentResult.getSentiment());
-            review.setSentimentScore(sentimentResult.getScore());
-            review.setRating(sentimentResult.getRating());
+            Review review = analyzedReview(movieId, reviewText, sentimentResult);
             
             return new ReviewSubmissionResult(false, review, 
                 "Review was analyzed but could not be saved - database is down. History does not work at this moment.");
         }
+
+        // Stored - from here on nothing may report the review as unsaved
+        onReviewSaved(savedReview);
+        return new ReviewSubmissionResult(true, savedReview, submittedMessage(sentimentResult));
+    }
+
+    private static String submittedMessage(SentimentResult sentimentResult) {
+        return sentimentResult.isPending()
+                ? "Review submitted - sentiment analysis is pending and will be added shortly"
+                : "Review submitted successfully";
+    }
+
+    /**
+     * Build a review carrying an analysis result and the engine that produced it
+     */
+    private static Review analyzedReview(String movieId, String reviewText, SentimentResult sentimentResult) {
+        Review review = new Review(movieId, reviewText,
+                                   sentimentResult.getSentiment(),
+                                   sentimentResult.getScore(),
+                                   sentimentResult.getRating());
+        review.setSentimentEngine(sentimentResult.getEngine());
+        return review;
+    }
+
+    /**
+     * Save a batch of journaled reviews in one transaction; called by the write-behind drainer,
+     * which updates the read models (onJournaledReviewsSaved) once it has checkpointed the batch,
+     * both inside MovieStatsService.guardWrite
+     */
+    public List<Review> persistJournaledReviews(List<Review> reviews) {
+        // Thrown before anything is written, so the drainer keeps the batch and retries it
+        checkSchemaMigrated();
+        List<Review> savedReviews = transactionTemplate.execute(status -> reviewRepository.saveAll(inMovieOrder(reviews)));
+        log.debug("Drained {} journaled reviews to the database", savedReviews.size());
+        return savedReviews;
+    }
+
+    /**
+     * Update in-memory read models for journaled reviews the drainer has stored
+     */
+    public void onJournaledReviewsSaved(List<Review> savedReviews) {
+        for (Review savedReview : savedReviews) {
+            onReviewSaved(savedReview);
+        }
+    }
+
+    /**
+     * Update in-memory read models once a review is committed. The review is stored whatever
+     * happens here, so a failing read model is logged and skipped rather than failing the write
+     * (or the others).
+     */
+    private void onReviewSaved(Review savedReview) {
+        updateReadModel("movie stats", savedReview, movieStatsService::recordReview);
+        updateReadModel("latest reviews", savedReview, latestReviews::append);
+        updateReadModel("search index", savedReview, searchIndex::recordReview);
+        updateReadModel("review revisions", savedReview, review -> reviewRevisions.bump(review.getMovieId()));
+        updateReadModel("review events", savedReview,
+                review -> eventBroadcaster.publish(EventBroadcaster.EVENT_REVIEW, String.valueOf(review.getId()), review));
+    }
+
+    private static void updateReadModel(String readModel, Review savedReview, Consumer<Review> update) {
+        try {
+            update.accept(savedReview);
+        } catch (RuntimeException e) {
+            log.warn("Failed to update {} for saved review {}: {}", readModel, savedReview.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Check whether reviews are accepted with pending sentiment while the model server is down
+     */
+    public boolean isDeferredScoringEnabled() {
+        return deferredScoringEnabled;
+    }
+
+    /**
+     * Get aggregate statistics for a movie, served from memory once seeded
+     */
+    public Map<String, Object> getMovieStats(String movieId) {
+        if (!movieStatsService.isSeeded() && !databaseConnected) {
+            throw new DatabaseException("Database connection is disabled - review statistics are not available");
+        }
+
+        try {
+            return movieStatsService.getMovieStats(movieId);
+        } catch (DataAccessException e) {
+            log.warn("Database error while fetching movie statistics: {}", e.getMessage());
+            throw new DatabaseException("Database is down - review statistics are not available");
+        }
     }
 
     /**
@@ -121,11 +572,11 @@ public class ReviewService {
 
         try {
             // Try a simple query to check database connectivity
-            reviewRepository.count();
+            reviewJdbcRepository.ping();
             return true;
         } catch (Exception e) {
             // Catch ALL exceptions, not just DataAccessException
-            System.err.println("❌ Database health check failed: " + e.getMessage());
+            log.debug("Database health check failed: {}", e.getMessage());
             return false;
         }
     }
@@ -135,7 +586,7 @@ public class ReviewService {
      */
     public void toggleDatabaseConnection() {
         databaseConnected = !databaseConnected;
-        System.out.println("🔧 Database connection toggled: " + (databaseConnected ? "ENABLED" : "DISABLED"));
+        log.info("Database connection toggled: {}", databaseConnected ? "ENABLED" : "DISABLED");
     }
 
     /**
@@ -148,12 +599,20 @@ public class ReviewService {
     /**
      * Get review statistics for admin panel
      */
-    public Map<String, Object> getReviewStats() {
+    public Map<String, Object> getReviewStats(boolean databaseUp) {
+        if (!movieStatsService.isSeeded() && !databaseConnected) {
+            return Map.of(
+                "totalReviews", 0,
+                "databaseConnected", false,
+                "error", "Database unavailable"
+            );
+        }
+
         try {
-            long totalReviews = reviewRepository.count();
+            // Served from the movie stats aggregates rather than a COUNT(*) over reviews
             return Map.of(
-                "totalReviews", totalReviews,
-                "databaseConnected", isDatabaseAvailable()
+                "totalReviews", movieStatsService.getTotalReviews(),
+                "databaseConnected", databaseUp
             );
         } catch (Exception e) {
             return Map.of(
@@ -165,24 +624,108 @@ public class ReviewService {
     }
 
     /**
-     * Get latest reviews across all movies
+     * Get write-behind journal status for admin panel
+     */
+    public Map<String, Object> getWriteBehindStatus() {
+        return writeBehindWriter.getStatus();
+    }
+
+    /**
+     * Get latest reviews across all movies, served from memory once seeded; at most the buffer's capacity
      */
     public List<Review> getLatestReviews(int limit) {
+        int size = Math.max(1, Math.min(limit, latestReviews.getCapacity()));
+        if (latestReviews.isSeeded()) {
+            return latestReviews.latest(size);
+        }
         if (!databaseConnected) {
             throw new DatabaseException("Database connection is disabled - latest reviews are not available");
         }
 
         try {
-            System.out.println("🗄️ Fetching latest 5 reviews across all movies");
-            List<Review> reviews = reviewRepository.findTop5ByOrderByCreatedAtDesc();
-            System.out.println("✅ Found " + reviews.size() + " latest reviews");
+            if (latestReviews.trySeed()) {
+                return latestReviews.latest(size);
+            }
+            log.debug("Fetching latest {} reviews across all movies", size);
+            List<Review> reviews = reviewRepository.findRecentReviews(Limit.of(size));
+            log.debug("Found {} latest reviews", reviews.size());
             return reviews;
         } catch (DataAccessException e) {
-            System.err.println("❌ Database error while fetching latest reviews: " + e.getMessage());
+            log.warn("Database error while fetching latest reviews: {}", e.getMessage());
             throw new DatabaseException("Database is down - latest reviews are not available");
         }
     }
 
+    /**
+     * Reviews a reconnecting event stream client missed after the given review, oldest first, from
+     * the latest reviews buffer; empty until the buffer is seeded, never a database query
+     */
+    public List<Review> getReviewsSince(long reviewId) {
+        if (!latestReviews.isSeeded()) {
+            return List.of();
+        }
+        return latestReviews.newerThan(reviewId);
+    }
+
+    /**
+     * Full-text search over review text: matches come from the in-memory index (every term must
+     * occur), best first, and the rows are then loaded by ID
+     */
+    public SearchPage searchReviews(String query, String movieId, String sentiment, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+        if (query.length() > maxSearchQueryLength) {
+            throw new IllegalArgumentException("Search query must be at most " + maxSearchQueryLength + " characters");
+        }
+        if (sentiment != null && !SEARCHABLE_SENTIMENTS.contains(sentiment)) {
+            throw new IllegalArgumentException("Sentiment must be one of " + SEARCHABLE_SENTIMENTS);
+        }
+        if (!searchIndex.isEnabled()) {
+            throw new DatabaseException("Review search is disabled");
+        }
+        if (!searchIndex.isSeeded()) {
+            throw new DatabaseException("Search is not available yet - the review index is still loading");
+        }
+        if (!databaseConnected) {
+            throw new DatabaseException("Database connection is disabled - review search is not available");
+        }
+
+        int size = Math.max(1, Math.min(limit, maxSearchResults));
+        long start = System.nanoTime();
+        ReviewSearchIndex.SearchResult result = searchIndex.search(query, movieId, sentiment, size);
+        long indexMicros = (System.nanoTime() - start) / 1000;
+
+        long[] ids = result.getReviewIds();
+        if (ids.length == 0) {
+            return new SearchPage(List.of(), result.getTotalMatches(), result.isTotalMatchesExact(), indexMicros);
+        }
+        try {
+            Map<Long, Review> byId = new HashMap<>();
+            for (Review review : reviewJdbcRepository.findByIds(ids)) {
+                byId.put(review.getId(), review);
+            }
+            List<SearchHit> hits = new ArrayList<>(ids.length);
+            for (int i = 0; i < ids.length; i++) {
+                Review review = byId.get(ids[i]);
+                if (review != null) {
+                    hits.add(new SearchHit(review, result.getScores()[i]));
+                }
+            }
+            return new SearchPage(hits, result.getTotalMatches(), result.isTotalMatchesExact(), indexMicros);
+        } catch (DataAccessException e) {
+            log.warn("Database error while loading search results: {}", e.getMessage());
+            throw new DatabaseException("Database is down - review search does not work at this moment");
+        }
+    }
+
+    /**
+     * Get search index size for admin panel
+     */
+    public Map<String, Object> getSearchIndexStatus() {
+        return searchIndex.getStatus();
+    }
+
     /**
      * Review submission result
      */
@@ -210,6 +753,112 @@ public class ReviewService {
         }
     }
 
+    /**
+     * One page of review history plus the cursor for the next page (null on the last page)
+     */
+    public static class ReviewPage {
+        private final List<Review> reviews;
+        private final String nextCursor;
+
+        public ReviewPage(List<Review> reviews, String nextCursor) {
+            this.reviews = reviews;
+            this.nextCursor = nextCursor;
+        }
+
+        public List<Review> getReviews() {
+            return reviews;
+        }
+
+        public String getNextCursor() {
+            return nextCursor;
+        }
+
+        public boolean isHasMore() {
+            return nextCursor != null;
+        }
+    }
+
+    /**
+     * One page of search results, best match first, with the number of matching reviews
+     * (a lower bound unless totalMatchesExact)
+     */
+    public static class SearchPage {
+        private final List<SearchHit> results;
+        private final long totalMatches;
+        private final boolean totalMatchesExact;
+        private final long indexMicros;
+
+        public SearchPage(List<SearchHit> results, long totalMatches, boolean totalMatchesExact, long indexMicros) {
+            this.results = results;
+            this.totalMatches = totalMatches;
+            this.totalMatchesExact = totalMatchesExact;
+            this.indexMicros = indexMicros;
+        }
+
+        public List<SearchHit> getResults() {
+            return results;
+        }
+
+        public long getTotalMatches() {
+            return totalMatches;
+        }
+
+        public boolean isTotalMatchesExact() {
+            return totalMatchesExact;
+        }
+
+        public long getIndexMicros() {
+            return indexMicros;
+        }
+    }
+
+    public static class SearchHit {
+        private final Review review;
+        private final double score;
+
+        public SearchHit(Review review, double score) {
+            this.review = review;
+            this.score = score;
+        }
+
+        public Review getReview() {
+            return review;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+
+    /**
+     * Opaque keyset cursor over (created_at, id)
+     */
+    static class ReviewCursor {
+        private final LocalDateTime createdAt;
+        private final Long id;
+
+        private ReviewCursor(LocalDateTime createdAt, Long id) {
+            this.createdAt = createdAt;
+            this.id = id;
+        }
+
+        static String encode(Review review) {
+            String raw = review.getCreatedAt() + "|" + review.getId();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static ReviewCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                return new ReviewCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                                        Long.valueOf(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+    }
+
     /**
      * Custom exceptions
      */
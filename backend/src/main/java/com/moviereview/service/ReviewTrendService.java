@@ -0,0 +1,200 @@
+package com.moviereview.service;
+
+import com.moviereview.repository.ReviewJdbcRepository;
+import com.moviereview.repository.ReviewJdbcRepository.TrendBucket;
+import com.moviereview.service.ReviewService.DatabaseException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sentiment trend per movie over time, read from the review_trend_buckets rollups.
+ *
+ * The database keeps the rollups current on every write (hourly buckets, trigger-maintained);
+ * this service periodically folds hourly buckets older than the hourly retention into daily
+ * ones, so the rollups stay small however much history accumulates. Hourly trends are therefore
+ * only available within the retention; older periods come back as daily buckets.
+ */
+@Service
+public class ReviewTrendService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewTrendService.class);
+
+    public static final String BUCKET_HOUR = "hour";
+    public static final String BUCKET_DAY = "day";
+
+    @Autowired
+    private ReviewJdbcRepository reviewJdbcRepository;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${review.trend.hourly-retention-days:7}")
+    private int hourlyRetentionDays;
+
+    @Value("${review.trend.compaction-interval-ms:3600000}")
+    private long compactionIntervalMs;
+
+    @Value("${review.trend.default-hours:48}")
+    private int defaultHours;
+
+    @Value("${review.trend.default-days:90}")
+    private int defaultDays;
+
+    @Value("${review.trend.max-buckets:1000}")
+    private int maxBuckets;
+
+    // Single thread, so compactions never overlap within this replica (across replicas the
+    // compaction statement itself is safe to run concurrently)
+    private ScheduledExecutorService compactor;
+
+    private final LongAdder compacted = new LongAdder();
+    private volatile LocalDateTime lastCompaction;
+
+    @PostConstruct
+    void startCompactor() {
+        FunctionCounter.builder("review.trend.buckets.compacted", compacted, LongAdder::sum)
+                .description("Hourly trend buckets folded into daily buckets")
+                .register(meterRegistry);
+
+        compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "trend-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        compactor.scheduleWithFixedDelay(this::compact, 0, compactionIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopCompactor() {
+        compactor.shutdownNow();
+    }
+
+    /**
+     * Fold hourly buckets from before the retention window (whole days only) into daily buckets
+     */
+    private void compact() {
+        if (!reviewService.isDatabaseConnectionEnabled()) {
+            return;
+        }
+        try {
+            LocalDateTime cutoff = LocalDate.now().minusDays(hourlyRetentionDays).atStartOfDay();
+            long folded = reviewJdbcRepository.compactTrendBuckets(cutoff);
+            compacted.add(folded);
+            lastCompaction = LocalDateTime.now();
+            if (folded > 0) {
+                log.info("Folded {} hourly trend buckets from before {} into daily buckets", folded, cutoff);
+            }
+        } catch (Exception e) {
+            log.warn("Trend bucket compaction failed, retrying in {} ms: {}", compactionIntervalMs, e.getMessage());
+        }
+    }
+
+    /**
+     * Per-bucket review count, mean rating, mean sentiment score and sentiment distribution for a
+     * movie; from/to are ISO dates or date-times (to exclusive) and default to a recent window
+     */
+    public Map<String, Object> getTrend(String movieId, String bucket, String from, String to) {
+        boolean daily;
+        if (BUCKET_DAY.equals(bucket)) {
+            daily = true;
+        } else if (BUCKET_HOUR.equals(bucket)) {
+            daily = false;
+        } else {
+            throw new IllegalArgumentException("bucket must be 'hour' or 'day'");
+        }
+        ChronoUnit unit = daily ? ChronoUnit.DAYS : ChronoUnit.HOURS;
+
+        LocalDateTime end = to != null ? parseTime(to, "to") : LocalDateTime.now().truncatedTo(unit).plus(1, unit);
+        LocalDateTime start = from != null ? parseTime(from, "from")
+                : end.minus(daily ? defaultDays : defaultHours, unit);
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        long buckets = Duration.between(start.truncatedTo(unit), end).toSeconds() / unit.getDuration().toSeconds();
+        if (buckets > maxBuckets) {
+            throw new IllegalArgumentException("Range covers " + buckets + " " + bucket + " buckets; at most " + maxBuckets + " allowed");
+        }
+
+        if (!reviewService.isDatabaseConnectionEnabled()) {
+            throw new DatabaseException("Database connection is disabled - review trends are not available");
+        }
+        List<Map<String, Object>> points = new ArrayList<>();
+        try {
+            for (TrendBucket row : reviewJdbcRepository.findTrendBuckets(movieId, daily, start, end)) {
+                points.add(toPoint(row));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Database error while fetching review trend: {}", e.getMessage());
+            throw new DatabaseException("Database is down - review trends are not available");
+        }
+
+        Map<String, Object> trend = new LinkedHashMap<>();
+        trend.put("movieId", movieId);
+        trend.put("bucket", bucket);
+        trend.put("from", start.toString());
+        trend.put("to", end.toString());
+        trend.put("hourlyRetentionDays", hourlyRetentionDays);
+        trend.put("buckets", points);
+        return trend;
+    }
+
+    private static Map<String, Object> toPoint(TrendBucket row) {
+        Map<String, Object> point = new LinkedHashMap<>();
+        point.put("start", row.start().toString());
+        point.put("resolution", row.resolution());
+        point.put("count", row.totalReviews());
+        point.put("meanRating", row.ratingCount() > 0 ? row.ratingSum() / row.ratingCount() : null);
+        point.put("meanSentimentScore", row.sentimentScoreCount() > 0 ? row.sentimentScoreSum() / row.sentimentScoreCount() : null);
+        point.put("sentiment", Map.of(
+            "positive", row.positiveReviews(),
+            "negative", row.negativeReviews(),
+            "neutral", row.neutralReviews(),
+            "pending", row.pendingReviews()
+        ));
+        return point;
+    }
+
+    private static LocalDateTime parseTime(String value, String name) {
+        try {
+            return value.length() == 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(name + " must be an ISO date or date-time");
+        }
+    }
+
+    /**
+     * Get compaction status for admin panel
+     */
+    public Map<String, Object> getStatus() {
+        return Map.of(
+            "hourlyRetentionDays", hourlyRetentionDays,
+            "compactedBuckets", compacted.sum(),
+            "lastCompaction", lastCompaction != null ? lastCompaction.toString() : "never"
+        );
+    }
+}
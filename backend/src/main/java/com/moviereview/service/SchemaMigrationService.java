@@ -0,0 +1,144 @@
+package com.moviereview.service;
+
+import jakarta.annotation.PreDestroy;
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Applies the schema migrations and tracks whether the schema is current.
+ *
+ * A migration that fails fails startup: the code needs the columns and tables the migrations
+ * add, so running on without them only moves the failure to every request. A database that
+ * cannot be reached at startup is different - the backend starts degraded as before, and the
+ * migrations run as soon as the health probe sees the database again. Until then the schema is
+ * reported as not migrated and reviews are not saved.
+ *
+ * Deliberately has no dependencies: it is used while Flyway is being initialized, before the
+ * repositories exist.
+ */
+@Service
+public class SchemaMigrationService {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaMigrationService.class);
+
+    public static final String STATE_MIGRATED = "migrated";
+    public static final String STATE_PENDING = "pending";
+    public static final String STATE_FAILED = "failed";
+
+    // Set while migrations still have to run because the database was unreachable
+    private volatile Flyway pending;
+    private volatile boolean failed = false;
+
+    private final AtomicBoolean retrying = new AtomicBoolean(false);
+
+    // Migrations can take a while (concurrent index builds); keep them off the health probe thread
+    private final ExecutorService migrator = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "schema-migrator");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PreDestroy
+    void stopMigrator() {
+        migrator.shutdownNow();
+    }
+
+    /**
+     * Apply pending migrations at startup; throws if a migration fails, remembers them for later
+     * if the database cannot be reached
+     */
+    public void migrate(Flyway flyway) {
+        try {
+            int applied = flyway.migrate().migrationsExecuted;
+            log.info("Database schema is up to date ({} migrations applied)", applied);
+        } catch (RuntimeException e) {
+            if (!isConnectionFailure(e)) {
+                throw e;
+            }
+            pending = flyway;
+            log.warn("Database unreachable, schema migrations will run once it is up: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Run the migrations left over from startup in the background, if any and not already running;
+     * called whenever the database is seen up
+     */
+    public void migrateIfPending() {
+        if (pending == null || !retrying.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            migrator.execute(this::retry);
+        } catch (RejectedExecutionException e) {
+            retrying.set(false);
+        }
+    }
+
+    private void retry() {
+        Flyway flyway = pending;
+        try {
+            if (flyway == null) {
+                return;
+            }
+            int applied = flyway.migrate().migrationsExecuted;
+            pending = null;
+            log.info("Database schema is up to date ({} migrations applied)", applied);
+        } catch (RuntimeException e) {
+            if (isConnectionFailure(e)) {
+                log.debug("Schema migrations still waiting for the database: {}", e.getMessage());
+                return;
+            }
+            // Retrying the same migration will not help; it needs fixing and a restart
+            pending = null;
+            failed = true;
+            log.error("Database schema migration failed, reviews will not be saved until it is fixed and the backend restarted", e);
+        } finally {
+            retrying.set(false);
+        }
+    }
+
+    private static boolean isConnectionFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransientConnectionException
+                    || cause instanceof ConnectException
+                    || cause instanceof UnknownHostException) {
+                return true;
+            }
+            // SQLSTATE class 08: connection exception
+            if (cause instanceof SQLException sqlException && sqlException.getSQLState() != null
+                    && sqlException.getSQLState().startsWith("08")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check whether the schema has every migration the code needs
+     */
+    public boolean isMigrated() {
+        return pending == null && !failed;
+    }
+
+    /**
+     * One of migrated, pending (waiting for the database) or failed
+     */
+    public String getState() {
+        if (failed) {
+            return STATE_FAILED;
+        }
+        return pending != null ? STATE_PENDING : STATE_MIGRATED;
+    }
+}
@@ -0,0 +1,145 @@
+package com.moviereview.service;
+
+import com.moviereview.service.ModelServerService.ModelServerException;
+import com.moviereview.service.ModelServerService.SentimentResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Collects concurrent sentiment requests and sends them to the model server as one batch.
+ * A batch is flushed when it reaches maxBatchSize or when the window opened by its first
+ * request expires, whichever comes first.
+ */
+class SentimentBatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(SentimentBatcher.class);
+
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final BlockingQueue<PendingAnalysis> queue;
+    private final Function<List<String>, Mono<List<SentimentResult>>> transport;
+    private final Thread flusher;
+
+    private volatile boolean running = true;
+
+    SentimentBatcher(long windowMs, int maxBatchSize, int queueCapacity,
+                     Function<List<String>, Mono<List<SentimentResult>>> transport) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+        this.maxBatchSize = maxBatchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.transport = transport;
+        this.flusher = new Thread(this::run, "sentiment-batcher");
+        this.flusher.setDaemon(true);
+    }
+
+    void start() {
+        flusher.start();
+    }
+
+    void stop() {
+        running = false;
+        flusher.interrupt();
+        PendingAnalysis pending;
+        while ((pending = queue.poll()) != null) {
+            pending.result.completeExceptionally(new ModelServerException("Sentiment batcher is shutting down"));
+        }
+    }
+
+    /**
+     * Queue a text for the next batch; the future completes with this text's own result
+     */
+    CompletableFuture<SentimentResult> submit(String text) {
+        PendingAnalysis pending = new PendingAnalysis(text);
+        if (!running || !queue.offer(pending)) {
+            pending.result.completeExceptionally(new ModelServerException("Model server is busy - analysis cannot be done at this moment"));
+        }
+        return pending.result;
+    }
+
+    /**
+     * Number of requests waiting for the next flush
+     */
+    int getQueuedCount() {
+        return queue.size();
+    }
+
+    private void run() {
+        List<PendingAnalysis> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingAnalysis next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                dispatch(new ArrayList<>(batch));
+            } catch (InterruptedException e) {
+                // Stopping: the requests already taken from the queue are not dispatched, and
+                // stop() only fails those still queued
+                fail(batch, new ModelServerException("Sentiment batcher is shutting down"));
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.warn("Sentiment batch dispatch failed: {}", e.getMessage());
+                fail(batch, e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void dispatch(List<PendingAnalysis> batch) {
+        List<String> texts = new ArrayList<>(batch.size());
+        for (PendingAnalysis pending : batch) {
+            texts.add(pending.text);
+        }
+
+        // Subscribe rather than block so the flusher can start collecting the next batch
+        transport.apply(texts).subscribe(
+            results -> {
+                if (results.size() != batch.size()) {
+                    fail(batch, new ModelServerException("Invalid batch response from model server"));
+                    return;
+                }
+                for (int i = 0; i < batch.size(); i++) {
+                    SentimentResult result = results.get(i);
+                    if (result != null) {
+                        batch.get(i).result.complete(result);
+                    } else {
+                        batch.get(i).result.completeExceptionally(new ModelServerException("Invalid response from model server"));
+                    }
+                }
+            },
+            error -> fail(batch, error)
+        );
+    }
+
+    private static void fail(List<PendingAnalysis> batch, Throwable error) {
+        for (PendingAnalysis pending : batch) {
+            pending.result.completeExceptionally(error);
+        }
+    }
+
+    private static class PendingAnalysis {
+        private final String text;
+        private final CompletableFuture<SentimentResult> result = new CompletableFuture<>();
+
+        private PendingAnalysis(String text) {
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.moviereview.service;
+
+import com.moviereview.service.ModelServerService.SentimentResult;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded cache of sentiment results keyed by a SHA-256 hash of the normalized review text.
+ * Entries expire after a TTL and the least recently used entry is evicted once the cache is full.
+ * Concurrent requests for the same text share a single in-flight model call.
+ */
+@Component
+public class SentimentCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Value("${model.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${model.cache.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${model.cache.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, CacheEntry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+            if (size() > maxEntries) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Expose the existing counters as meters; they are read at scrape time, not on every lookup
+     */
+    @PostConstruct
+    void registerMetrics() {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tag("cache", "sentiment").tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tag("cache", "sentiment").tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+                .tag("cache", "sentiment").register(meterRegistry);
+        Gauge.builder("cache.size", this, SentimentCache::size)
+                .tag("cache", "sentiment").register(meterRegistry);
+    }
+
+    /**
+     * Return the cached result for this text, or load it once and share it with concurrent callers
+     */
+    public Mono<SentimentResult> get(String reviewText, Function<String, Mono<SentimentResult>> loader) {
+        if (!enabled) {
+            return loader.apply(reviewText);
+        }
+
+        return Mono.defer(() -> {
+            String key = keyFor(reviewText);
+            long now = System.nanoTime();
+            CacheEntry created = null;
+            CacheEntry entry;
+
+            lock.lock();
+            try {
+                entry = entries.get(key);
+                if (entry != null && entry.isExpired(now)) {
+                    entries.remove(key);
+                    evictions.increment();
+                    entry = null;
+                }
+                if (entry == null) {
+                    created = new CacheEntry(now + TimeUnit.SECONDS.toNanos(ttlSeconds));
+                    entries.put(key, created);
+                    entry = created;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (created == null) {
+                hits.increment();
+            } else {
+                misses.increment();
+                load(key, created, reviewText, loader);
+            }
+            // Shared future - one subscriber cancelling must not cancel it for the others
+            return Mono.fromFuture(entry.result, true);
+        });
+    }
+
+    private void load(String key, CacheEntry entry, String reviewText, Function<String, Mono<SentimentResult>> loader) {
+        loader.apply(reviewText).subscribe(
+            entry.result::complete,
+            error -> {
+                // Failures are not cached - the next request for this text retries the model server
+                lock.lock();
+                try {
+                    entries.remove(key, entry);
+                } finally {
+                    lock.unlock();
+                }
+                entry.result.completeExceptionally(error);
+            }
+        );
+    }
+
+    /**
+     * Drop every cached result
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get cache counters for admin panel
+     */
+    public Map<String, Object> getStats() {
+        return Map.of(
+            "enabled", enabled,
+            "size", size(),
+            "maxEntries", maxEntries,
+            "hits", hits.sum(),
+            "misses", misses.sum(),
+            "evictions", evictions.sum()
+        );
+    }
+
+    private int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Hash of the review text after trimming, collapsing whitespace and lower-casing
+     */
+    static String keyFor(String reviewText) {
+        String normalized = WHITESPACE.matcher(reviewText.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalized.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static class CacheEntry {
+        private final long expiresAtNanos;
+        private final CompletableFuture<SentimentResult> result = new CompletableFuture<>();
+
+        private CacheEntry(long expiresAtNanos) {
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAtNanos > 0;
+        }
+    }
+}
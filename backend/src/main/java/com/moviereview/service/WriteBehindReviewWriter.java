@@ -0,0 +1,452 @@
+package com.moviereview.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moviereview.entity.Review;
+import com.moviereview.repository.ReviewRepository;
+import com.moviereview.service.ReviewJournal.JournalRecord;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Write-behind ingestion for analyzed reviews.
+ *
+ * Submissions are appended to a local journal and acknowledged once the group they were
+ * written in has been fsynced. A background drainer saves journaled reviews to the database
+ * in batches and checkpoints its progress, so reviews submitted while the database is slow
+ * or down are stored once it recovers, including across restarts. A review the database
+ * refuses outright (rather than being unavailable) is moved to a dead-letter file so it cannot
+ * hold up the reviews journaled after it.
+ */
+@Service
+public class WriteBehindReviewWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindReviewWriter.class);
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    @Lazy
+    private ReviewService reviewService;
+
+    @Autowired
+    private MovieStatsService movieStatsService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${review.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${review.write-behind.journal-dir:./data/review-journal}")
+    private String journalDir;
+
+    @Value("${review.write-behind.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${review.write-behind.max-group-size:512}")
+    private int maxGroupSize;
+
+    @Value("${review.write-behind.drain-batch-size:200}")
+    private int drainBatchSize;
+
+    @Value("${review.write-behind.ack-timeout-ms:5000}")
+    private long ackTimeoutMs;
+
+    @Value("${review.write-behind.retry-ms:2000}")
+    private long retryMs;
+
+    private ReviewJournal journal;
+    private BlockingQueue<PendingAppend> appendQueue;
+    private Thread appenderThread;
+    private volatile Thread drainerThread;
+    private volatile boolean running = false;
+    private volatile String lastError;
+    // End of the last batch handed to the database; records before it may already be stored if
+    // that attempt failed after its commit, so a retry checks each one first (drainer thread only)
+    private long attemptedEnd = 0;
+    // Records already dead-lettered by an attempt that has not been checkpointed yet
+    private final Set<Long> deadLetteredEnds = new HashSet<>();
+
+    private final LongAdder journaled = new LongAdder();
+    private final LongAdder drained = new LongAdder();
+    private final LongAdder duplicatesSkipped = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+
+    @PostConstruct
+    void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+
+        journal = new ReviewJournal(Path.of(journalDir));
+        appendQueue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+
+        appenderThread = new Thread(this::runAppender, "review-journal-appender");
+        appenderThread.setDaemon(true);
+        appenderThread.start();
+        registerMetrics();
+
+        long pending = journal.getDurableEnd() - journal.getCommittedOffset();
+        log.info("Write-behind journal opened at {} ({} bytes pending replay)", journalDir, pending);
+    }
+
+    private void registerMetrics() {
+        Gauge.builder("review.journal.pending.bytes", journal, j -> j.getDurableEnd() - j.getCommittedOffset())
+                .description("Journaled bytes not yet saved to the database")
+                .register(meterRegistry);
+        Gauge.builder("review.journal.queued", appendQueue, BlockingQueue::size)
+                .description("Submissions waiting for the next journal fsync")
+                .register(meterRegistry);
+        FunctionCounter.builder("review.journal.records", journaled, LongAdder::sum)
+                .tag("stage", "journaled").register(meterRegistry);
+        FunctionCounter.builder("review.journal.records", drained, LongAdder::sum)
+                .tag("stage", "drained").register(meterRegistry);
+        FunctionCounter.builder("review.journal.records", duplicatesSkipped, LongAdder::sum)
+                .tag("stage", "duplicate").register(meterRegistry);
+        FunctionCounter.builder("review.journal.records", deadLettered, LongAdder::sum)
+                .tag("stage", "dead_letter").register(meterRegistry);
+    }
+
+    /**
+     * Start draining (and replaying anything left from a previous run) once the application is up
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startDrainer() {
+        if (!running) {
+            return;
+        }
+
+        drainerThread = new Thread(this::runDrainer, "review-journal-drainer");
+        drainerThread.setDaemon(true);
+        drainerThread.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (!running) {
+            return;
+        }
+
+        // No interrupts: an interrupted FileChannel operation closes the channel
+        running = false;
+        try {
+            appenderThread.join(TimeUnit.SECONDS.toMillis(5));
+            if (drainerThread != null) {
+                LockSupport.unpark(drainerThread);
+                drainerThread.join(TimeUnit.SECONDS.toMillis(5));
+            }
+            journal.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.error("Failed to close write-behind journal: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Check whether submissions should go through the journal
+     */
+    public boolean isEnabled() {
+        return running;
+    }
+
+    /**
+     * Append an analyzed review to the journal and wait until it is durable on disk.
+     * Returns false if the journal is full, failed, or did not acknowledge in time.
+     */
+    public boolean journal(Review review) {
+        if (!running) {
+            return false;
+        }
+
+        // Truncate to the database's precision so a replayed review can be matched against a stored one
+        review.setCreatedAt(review.getCreatedAt().truncatedTo(ChronoUnit.MICROS));
+        PendingAppend pending = new PendingAppend(review);
+        if (!appendQueue.offer(pending)) {
+            log.warn("Write-behind journal queue is full");
+            return false;
+        }
+
+        try {
+            try {
+                pending.durable.get(ackTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (pending.claimed.compareAndSet(false, true)) {
+                    // Withdrawn before the appender picked it up, so the caller can safely store it another way
+                    log.warn("Review journal did not acknowledge within {}ms", ackTimeoutMs);
+                    return false;
+                }
+                // Already being written - its group's fsync decides the outcome
+                pending.durable.get();
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            log.warn("Review could not be journaled: {}", e.getCause().getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Group commit loop: write everything queued since the last fsync, fsync once, then acknowledge
+     */
+    private void runAppender() {
+        List<PendingAppend> group = new ArrayList<>(maxGroupSize);
+        while (running || !appendQueue.isEmpty()) {
+            try {
+                PendingAppend first = appendQueue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                appendQueue.drainTo(group, maxGroupSize - 1);
+                group.removeIf(pending -> !pending.claimed.compareAndSet(false, true));
+                if (!group.isEmpty()) {
+                    writeGroup(group);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                group.clear();
+            }
+        }
+    }
+
+    private void writeGroup(List<PendingAppend> group) {
+        List<byte[]> payloads = new ArrayList<>(group.size());
+        try {
+            for (PendingAppend pending : group) {
+                payloads.add(objectMapper.writeValueAsBytes(JournalEntry.from(pending.review)));
+            }
+            journal.appendAll(payloads);
+            journaled.add(group.size());
+            for (PendingAppend pending : group) {
+                pending.durable.complete(null);
+            }
+            if (drainerThread != null) {
+                LockSupport.unpark(drainerThread);
+            }
+        } catch (IOException e) {
+            lastError = e.getMessage();
+            log.error("Failed to write review journal: {}", e.getMessage());
+            for (PendingAppend pending : group) {
+                pending.durable.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Drain loop: move journaled reviews into the database in batches, checkpointing after each batch
+     */
+    private void runDrainer() {
+        while (running) {
+            try {
+                if (journal.getCommittedOffset() >= journal.getDurableEnd()) {
+                    if (journal.compactIfDrained()) {
+                        attemptedEnd = 0;
+                    }
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(retryMs));
+                } else if (!reviewService.isDatabaseConnectionEnabled()) {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(retryMs));
+                } else {
+                    // The batch is saved and recorded in the read models before the movie stats
+                    // seed can take its snapshot, or after it
+                    movieStatsService.guardWrite(() -> {
+                        try {
+                            drainBatch();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e.getMessage(), e);
+                        }
+                        return null;
+                    });
+                    lastError = null;
+                }
+            } catch (Exception e) {
+                lastError = e.getMessage();
+                log.warn("Write-behind drain failed, will retry: {}", e.getMessage());
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(retryMs));
+            }
+        }
+    }
+
+    private void drainBatch() throws IOException {
+        List<JournalRecord> records = journal.read(journal.getCommittedOffset(), drainBatchSize);
+        if (records.isEmpty()) {
+            return;
+        }
+
+        List<JournalRecord> toSave = new ArrayList<>(records.size());
+        List<Review> reviews = new ArrayList<>(records.size());
+        for (JournalRecord record : records) {
+            if (deadLetteredEnds.contains(record.getEndOffset())) {
+                continue;
+            }
+            Review review;
+            try {
+                review = toReview(record);
+            } catch (IOException e) {
+                deadLetter(record, "Unreadable journal record: " + e.getMessage());
+                continue;
+            }
+            // Records from before a restart, or from a failed attempt, may already be stored
+            if ((journal.isRecovered(record) || record.getEndOffset() <= attemptedEnd)
+                    && reviewRepository.existsByMovieIdAndCreatedAtAndReviewText(
+                            review.getMovieId(), review.getCreatedAt(), review.getReviewText())) {
+                duplicatesSkipped.increment();
+                continue;
+            }
+            toSave.add(record);
+            reviews.add(review);
+        }
+
+        long batchEnd = records.get(records.size() - 1).getEndOffset();
+        attemptedEnd = batchEnd;
+        List<Review> savedReviews = List.of();
+        if (!reviews.isEmpty()) {
+            try {
+                savedReviews = reviewService.persistJournaledReviews(reviews);
+            } catch (DataIntegrityViolationException e) {
+                // Some row is refused by the table itself; store the batch one review at a time so
+                // only the refused ones are set aside
+                log.warn("Journaled batch refused by the database, saving reviews one at a time: {}", e.getMessage());
+                savedReviews = persistIndividually(toSave);
+            }
+            drained.add(savedReviews.size());
+        }
+
+        // Checkpoint as soon as the rows are committed; the read models are updated afterwards and
+        // outside the retried path, so nothing they do can cause the batch to be inserted again
+        try {
+            journal.commit(batchEnd);
+            deadLetteredEnds.clear();
+        } finally {
+            reviewService.onJournaledReviewsSaved(savedReviews);
+        }
+    }
+
+    /**
+     * Save reviews in separate transactions, dead-lettering any the database refuses; any other
+     * failure (such as the database going down) is rethrown so the batch is retried
+     */
+    private List<Review> persistIndividually(List<JournalRecord> records) throws IOException {
+        List<Review> savedReviews = new ArrayList<>(records.size());
+        for (JournalRecord record : records) {
+            // Fresh from the journal: the failed batch may have assigned IDs to the earlier copies
+            Review review = toReview(record);
+            try {
+                savedReviews.addAll(reviewService.persistJournaledReviews(List.of(review)));
+            } catch (DataIntegrityViolationException e) {
+                deadLetter(record, e.getMostSpecificCause().getMessage());
+            }
+        }
+        return savedReviews;
+    }
+
+    private Review toReview(JournalRecord record) throws IOException {
+        return objectMapper.readValue(record.getPayload(), JournalEntry.class).toReview();
+    }
+
+    private void deadLetter(JournalRecord record, String reason) throws IOException {
+        DeadLetter entry = new DeadLetter(LocalDateTime.now(), reason, new String(record.getPayload(), StandardCharsets.UTF_8));
+        journal.deadLetter(objectMapper.writeValueAsBytes(entry));
+        deadLetteredEnds.add(record.getEndOffset());
+        deadLettered.increment();
+        log.error("Journaled review refused permanently, moved to {}: {}", journal.getDeadLetterFile(), reason);
+    }
+
+    /**
+     * Get journal counters for admin panel
+     */
+    public Map<String, Object> getStatus() {
+        if (!running) {
+            return Map.of("enabled", false);
+        }
+        return Map.of(
+            "enabled", true,
+            "pendingBytes", journal.getDurableEnd() - journal.getCommittedOffset(),
+            "queued", appendQueue.size(),
+            "journaled", journaled.sum(),
+            "drained", drained.sum(),
+            "duplicatesSkipped", duplicatesSkipped.sum(),
+            "deadLettered", deadLettered.sum(),
+            "lastError", lastError != null ? lastError : ""
+        );
+    }
+
+    private static class PendingAppend {
+        private final Review review;
+        private final CompletableFuture<Void> durable = new CompletableFuture<>();
+        // Set by whichever side gets there first: the appender writing it or the caller giving up on it
+        private final AtomicBoolean claimed = new AtomicBoolean(false);
+
+        private PendingAppend(Review review) {
+            this.review = review;
+        }
+    }
+
+    /**
+     * Line in the dead-letter file: why the review was refused and its journal payload, verbatim
+     */
+    record DeadLetter(LocalDateTime deadLetteredAt, String reason, String journalRecord) {
+    }
+
+    /**
+     * On-disk form of a journaled review; keeps full timestamp precision unlike the API format
+     */
+    record JournalEntry(String movieId, String reviewText, String sentiment,
+                        Double sentimentScore, Double rating, LocalDateTime createdAt, String sentimentEngine) {
+
+        static JournalEntry from(Review review) {
+            return new JournalEntry(review.getMovieId(), review.getReviewText(), review.getSentiment(),
+                    review.getSentimentScore(), review.getRating(), review.getCreatedAt(), review.getSentimentEngine());
+        }
+
+        Review toReview() {
+            Review review = new Review(movieId, reviewText, sentiment, sentimentScore, rating);
+            review.setCreatedAt(createdAt);
+            review.setSentimentEngine(sentimentEngine);
+            return review;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.moviereview.util;
+
+/**
+ * Log-safe stand-ins for user-supplied review text.
+ * The summary is only rendered if the log statement is actually enabled.
+ */
+public final class LogText {
+
+    private LogText() {
+    }
+
+    /**
+     * Length and a short hash of the text instead of the text itself
+     */
+    public static Object summarize(String text) {
+        return new Object() {
+            @Override
+            public String toString() {
+                if (text == null) {
+                    return "null";
+                }
+                return "[len=" + text.length() + " hash=" + Integer.toHexString(text.hashCode()) + "]";
+            }
+        };
+    }
+}
@@ -0,0 +1,32 @@
+-- Baseline: the schema as created by database/init.sql when migrations were introduced.
+-- Databases that already have it are baselined at this version and skip this script
+-- (spring.flyway.baseline-on-migrate); it only runs against an empty database.
+
+CREATE TABLE IF NOT EXISTS reviews (
+    id BIGSERIAL PRIMARY KEY,
+    movie_id VARCHAR(255) NOT NULL,
+    review_text VARCHAR(2000) NOT NULL,
+    sentiment VARCHAR(50),
+    sentiment_score DOUBLE PRECISION,
+    rating DOUBLE PRECISION,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Create indexes for better performance
+CREATE INDEX IF NOT EXISTS idx_reviews_movie_id ON reviews(movie_id);
+CREATE INDEX IF NOT EXISTS idx_reviews_created_at ON reviews(created_at);
+CREATE INDEX IF NOT EXISTS idx_reviews_sentiment ON reviews(sentiment);
+
+-- Create a view for review statistics (useful for admin dashboard)
+CREATE OR REPLACE VIEW review_stats AS
+SELECT 
+    movie_id,
+    COUNT(*) as total_reviews,
+    AVG(rating) as avg_rating,
+    AVG(sentiment_score) as avg_sentiment_score,
+    COUNT(CASE WHEN sentiment = 'positive' THEN 1 END) as positive_reviews,
+    COUNT(CASE WHEN sentiment = 'negative' THEN 1 END) as negative_reviews,
+    COUNT(CASE WHEN sentiment = 'neutral' THEN 1 END) as neutral_reviews,
+    MAX(created_at) as latest_review
+FROM reviews 
+GROUP BY movie_id;
@@ -0,0 +1,3 @@
+-- Review IDs are allocated by Hibernate in blocks of 50 (pooled optimizer), so batched inserts
+-- need no sequence round trip per row. The entity's allocationSize must match this increment.
+ALTER SEQUENCE reviews_id_seq INCREMENT BY 50;
@@ -0,0 +1,3 @@
+-- Which engine scored a review: 'textblob' (the model server) or 'lexicon' (the in-process
+-- fallback analyzer). NULL for reviews stored before engines were recorded.
+ALTER TABLE reviews ADD COLUMN IF NOT EXISTS sentiment_engine VARCHAR(20);
@@ -0,0 +1,92 @@
+-- Per-movie review aggregates, kept up to date by a trigger in the same transaction as each
+-- write to reviews, so reading one movie's stats is a primary key lookup instead of a scan.
+-- Sums and counts are stored (not averages) so each change is a constant-time adjustment.
+CREATE TABLE IF NOT EXISTS movie_stats (
+    movie_id VARCHAR(255) PRIMARY KEY,
+    total_reviews BIGINT NOT NULL DEFAULT 0,
+    rating_sum DOUBLE PRECISION NOT NULL DEFAULT 0,
+    rating_count BIGINT NOT NULL DEFAULT 0,
+    sentiment_score_sum DOUBLE PRECISION NOT NULL DEFAULT 0,
+    sentiment_score_count BIGINT NOT NULL DEFAULT 0,
+    positive_reviews BIGINT NOT NULL DEFAULT 0,
+    negative_reviews BIGINT NOT NULL DEFAULT 0,
+    neutral_reviews BIGINT NOT NULL DEFAULT 0,
+    latest_review TIMESTAMP
+);
+
+-- Add (direction = 1) or remove (direction = -1) one review's contribution to its movie's row
+CREATE OR REPLACE FUNCTION movie_stats_apply(r reviews, direction INTEGER) RETURNS VOID AS $$
+BEGIN
+    INSERT INTO movie_stats AS s (movie_id, total_reviews, rating_sum, rating_count,
+                                  sentiment_score_sum, sentiment_score_count,
+                                  positive_reviews, negative_reviews, neutral_reviews, latest_review)
+    VALUES (r.movie_id, direction,
+            direction * COALESCE(r.rating, 0), CASE WHEN r.rating IS NOT NULL THEN direction ELSE 0 END,
+            direction * COALESCE(r.sentiment_score, 0), CASE WHEN r.sentiment_score IS NOT NULL THEN direction ELSE 0 END,
+            CASE WHEN r.sentiment = 'positive' THEN direction ELSE 0 END,
+            CASE WHEN r.sentiment = 'negative' THEN direction ELSE 0 END,
+            CASE WHEN r.sentiment = 'neutral' THEN direction ELSE 0 END,
+            CASE WHEN direction > 0 THEN r.created_at END)
+    ON CONFLICT (movie_id) DO UPDATE SET
+        total_reviews = s.total_reviews + EXCLUDED.total_reviews,
+        rating_sum = s.rating_sum + EXCLUDED.rating_sum,
+        rating_count = s.rating_count + EXCLUDED.rating_count,
+        sentiment_score_sum = s.sentiment_score_sum + EXCLUDED.sentiment_score_sum,
+        sentiment_score_count = s.sentiment_score_count + EXCLUDED.sentiment_score_count,
+        positive_reviews = s.positive_reviews + EXCLUDED.positive_reviews,
+        negative_reviews = s.negative_reviews + EXCLUDED.negative_reviews,
+        neutral_reviews = s.neutral_reviews + EXCLUDED.neutral_reviews,
+        latest_review = GREATEST(s.latest_review, EXCLUDED.latest_review);
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION movie_stats_on_review_change() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM movie_stats_apply(OLD, -1);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM movie_stats_apply(NEW, 1);
+    END IF;
+    -- Only a removed or moved review can lower a movie's latest timestamp
+    IF TG_OP = 'DELETE' OR (TG_OP = 'UPDATE' AND (OLD.movie_id IS DISTINCT FROM NEW.movie_id
+                                                  OR OLD.created_at IS DISTINCT FROM NEW.created_at)) THEN
+        UPDATE movie_stats SET latest_review = (SELECT MAX(created_at) FROM reviews WHERE movie_id = OLD.movie_id)
+        WHERE movie_id = OLD.movie_id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS reviews_movie_stats ON reviews;
+CREATE TRIGGER reviews_movie_stats
+    AFTER INSERT OR DELETE OR UPDATE OF movie_id, sentiment, sentiment_score, rating, created_at ON reviews
+    FOR EACH ROW EXECUTE FUNCTION movie_stats_on_review_change();
+
+-- One-time backfill from existing reviews (databases created by an init.sql that already has the
+-- trigger start with movie_stats filled). Creating the trigger above locks reviews against
+-- writes until this migration commits, so no review is missed or counted twice.
+INSERT INTO movie_stats (movie_id, total_reviews, rating_sum, rating_count, sentiment_score_sum,
+                         sentiment_score_count, positive_reviews, negative_reviews, neutral_reviews, latest_review)
+SELECT movie_id, COUNT(*), COALESCE(SUM(rating), 0), COUNT(rating), COALESCE(SUM(sentiment_score), 0),
+       COUNT(sentiment_score), COUNT(*) FILTER (WHERE sentiment = 'positive'),
+       COUNT(*) FILTER (WHERE sentiment = 'negative'), COUNT(*) FILTER (WHERE sentiment = 'neutral'),
+       MAX(created_at)
+FROM reviews
+WHERE NOT EXISTS (SELECT 1 FROM movie_stats)
+GROUP BY movie_id;
+
+-- Review statistics view (useful for admin dashboard); reads the trigger-maintained movie_stats
+-- table, so it costs one row per movie instead of a scan of every review
+CREATE OR REPLACE VIEW review_stats AS
+SELECT 
+    movie_id,
+    total_reviews,
+    rating_sum / NULLIF(rating_count, 0) as avg_rating,
+    sentiment_score_sum / NULLIF(sentiment_score_count, 0) as avg_sentiment_score,
+    positive_reviews,
+    negative_reviews,
+    neutral_reviews,
+    latest_review
+FROM movie_stats
+WHERE total_reviews > 0;
@@ -0,0 +1,23 @@
+-- Indexes matched to the review queries the backend actually runs. Built CONCURRENTLY so
+-- writes to reviews are not blocked while they are created; this script therefore runs
+-- outside a transaction (see the .conf file next to it).
+
+-- One movie's reviews, newest first: findByMovieIdOrderByCreatedAtDesc, keyset history pages,
+-- streaming, the multi-movie windowed query and the write-behind duplicate check all filter on
+-- movie_id and order by (created_at, id) descending, so they read this index in order without
+-- a sort. INCLUDE covers list views that only need the scores, e.g. a movie's sentiment over time.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reviews_movie_created
+    ON reviews (movie_id, created_at DESC, id DESC) INCLUDE (sentiment, sentiment_score, rating);
+
+-- Latest reviews across all movies (findRecentReviews, which seeds the latest reviews buffer)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reviews_created
+    ON reviews (created_at DESC, id DESC);
+
+-- Deferred scoring queue; only the handful of pending rows are indexed
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reviews_pending
+    ON reviews (id) WHERE sentiment = 'pending';
+
+-- Superseded by the indexes above; no query filters on sentiment alone
+DROP INDEX CONCURRENTLY IF EXISTS idx_reviews_movie_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_reviews_created_at;
+DROP INDEX CONCURRENTLY IF EXISTS idx_reviews_sentiment;
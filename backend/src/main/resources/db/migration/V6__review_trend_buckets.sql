@@ -0,0 +1,124 @@
+-- Per-movie review rollups by time bucket for /api/reviews/{movieId}/trend, kept up to date by a
+-- trigger in the same transaction as each write to reviews. Reviews land in hourly buckets; the
+-- backend periodically folds hourly buckets older than its retention into daily ones
+-- (review_trend_compact), so a year of history is a few hundred rows per movie and trend reads
+-- never touch reviews. Sums and counts are stored, as in movie_stats.
+CREATE TABLE IF NOT EXISTS review_trend_buckets (
+    movie_id VARCHAR(255) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    resolution VARCHAR(8) NOT NULL CHECK (resolution IN ('hour', 'day')),
+    total_reviews BIGINT NOT NULL DEFAULT 0,
+    rating_sum DOUBLE PRECISION NOT NULL DEFAULT 0,
+    rating_count BIGINT NOT NULL DEFAULT 0,
+    sentiment_score_sum DOUBLE PRECISION NOT NULL DEFAULT 0,
+    sentiment_score_count BIGINT NOT NULL DEFAULT 0,
+    positive_reviews BIGINT NOT NULL DEFAULT 0,
+    negative_reviews BIGINT NOT NULL DEFAULT 0,
+    neutral_reviews BIGINT NOT NULL DEFAULT 0,
+    pending_reviews BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (movie_id, bucket_start, resolution)
+);
+
+-- Compaction picks the old hourly buckets of every movie
+CREATE INDEX IF NOT EXISTS idx_review_trend_hourly
+    ON review_trend_buckets (bucket_start) WHERE resolution = 'hour';
+
+-- Add (direction = 1) or remove (direction = -1) one review's contribution to its hourly bucket.
+-- A change to a review whose hour was already compacted lands in a new hourly row and is folded
+-- into the daily one by the next compaction.
+CREATE OR REPLACE FUNCTION review_trend_apply(r reviews, direction INTEGER) RETURNS VOID AS $$
+BEGIN
+    IF r.created_at IS NULL THEN
+        RETURN;
+    END IF;
+    INSERT INTO review_trend_buckets AS b (movie_id, bucket_start, resolution, total_reviews,
+                                           rating_sum, rating_count, sentiment_score_sum, sentiment_score_count,
+                                           positive_reviews, negative_reviews, neutral_reviews, pending_reviews)
+    VALUES (r.movie_id, date_trunc('hour', r.created_at), 'hour', direction,
+            direction * COALESCE(r.rating, 0), CASE WHEN r.rating IS NOT NULL THEN direction ELSE 0 END,
+            direction * COALESCE(r.sentiment_score, 0), CASE WHEN r.sentiment_score IS NOT NULL THEN direction ELSE 0 END,
+            CASE WHEN r.sentiment = 'positive' THEN direction ELSE 0 END,
+            CASE WHEN r.sentiment = 'negative' THEN direction ELSE 0 END,
+            CASE WHEN r.sentiment = 'neutral' THEN direction ELSE 0 END,
+            CASE WHEN r.sentiment = 'pending' THEN direction ELSE 0 END)
+    ON CONFLICT (movie_id, bucket_start, resolution) DO UPDATE SET
+        total_reviews = b.total_reviews + EXCLUDED.total_reviews,
+        rating_sum = b.rating_sum + EXCLUDED.rating_sum,
+        rating_count = b.rating_count + EXCLUDED.rating_count,
+        sentiment_score_sum = b.sentiment_score_sum + EXCLUDED.sentiment_score_sum,
+        sentiment_score_count = b.sentiment_score_count + EXCLUDED.sentiment_score_count,
+        positive_reviews = b.positive_reviews + EXCLUDED.positive_reviews,
+        negative_reviews = b.negative_reviews + EXCLUDED.negative_reviews,
+        neutral_reviews = b.neutral_reviews + EXCLUDED.neutral_reviews,
+        pending_reviews = b.pending_reviews + EXCLUDED.pending_reviews;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION review_trend_on_review_change() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM review_trend_apply(OLD, -1);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM review_trend_apply(NEW, 1);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS reviews_trend_buckets ON reviews;
+CREATE TRIGGER reviews_trend_buckets
+    AFTER INSERT OR DELETE OR UPDATE OF movie_id, sentiment, sentiment_score, rating, created_at ON reviews
+    FOR EACH ROW EXECUTE FUNCTION review_trend_on_review_change();
+
+-- Fold hourly buckets starting before cutoff into daily buckets; returns the number of hourly
+-- buckets folded. The rows are deleted and re-aggregated in one statement, so an hourly row
+-- written concurrently is either folded now or left for the next run, never counted twice.
+CREATE OR REPLACE FUNCTION review_trend_compact(cutoff TIMESTAMP) RETURNS BIGINT AS $$
+DECLARE
+    folded BIGINT;
+BEGIN
+    WITH hourly AS (
+        DELETE FROM review_trend_buckets
+        WHERE resolution = 'hour' AND bucket_start < cutoff
+        RETURNING *
+    ), daily AS (
+        INSERT INTO review_trend_buckets AS b (movie_id, bucket_start, resolution, total_reviews,
+                                               rating_sum, rating_count, sentiment_score_sum, sentiment_score_count,
+                                               positive_reviews, negative_reviews, neutral_reviews, pending_reviews)
+        SELECT movie_id, date_trunc('day', bucket_start), 'day', SUM(total_reviews),
+               SUM(rating_sum), SUM(rating_count), SUM(sentiment_score_sum), SUM(sentiment_score_count),
+               SUM(positive_reviews), SUM(negative_reviews), SUM(neutral_reviews), SUM(pending_reviews)
+        FROM hourly
+        GROUP BY movie_id, date_trunc('day', bucket_start)
+        ON CONFLICT (movie_id, bucket_start, resolution) DO UPDATE SET
+            total_reviews = b.total_reviews + EXCLUDED.total_reviews,
+            rating_sum = b.rating_sum + EXCLUDED.rating_sum,
+            rating_count = b.rating_count + EXCLUDED.rating_count,
+            sentiment_score_sum = b.sentiment_score_sum + EXCLUDED.sentiment_score_sum,
+            sentiment_score_count = b.sentiment_score_count + EXCLUDED.sentiment_score_count,
+            positive_reviews = b.positive_reviews + EXCLUDED.positive_reviews,
+            negative_reviews = b.negative_reviews + EXCLUDED.negative_reviews,
+            neutral_reviews = b.neutral_reviews + EXCLUDED.neutral_reviews,
+            pending_reviews = b.pending_reviews + EXCLUDED.pending_reviews
+    )
+    SELECT COUNT(*) INTO folded FROM hourly;
+    RETURN folded;
+END;
+$$ LANGUAGE plpgsql;
+
+-- One-time backfill from existing reviews (databases created by an init.sql that already has the
+-- trigger start with their buckets filled). Creating the trigger above locks reviews against
+-- writes until this migration commits, so no review is missed or counted twice. The backend's
+-- first compaction moves everything past the hourly retention into daily buckets.
+INSERT INTO review_trend_buckets (movie_id, bucket_start, resolution, total_reviews,
+                                  rating_sum, rating_count, sentiment_score_sum, sentiment_score_count,
+                                  positive_reviews, negative_reviews, neutral_reviews, pending_reviews)
+SELECT movie_id, date_trunc('hour', created_at), 'hour', COUNT(*),
+       COALESCE(SUM(rating), 0), COUNT(rating), COALESCE(SUM(sentiment_score), 0), COUNT(sentiment_score),
+       COUNT(*) FILTER (WHERE sentiment = 'positive'), COUNT(*) FILTER (WHERE sentiment = 'negative'),
+       COUNT(*) FILTER (WHERE sentiment = 'neutral'), COUNT(*) FILTER (WHERE sentiment = 'pending')
+FROM reviews
+WHERE created_at IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM review_trend_buckets)
+GROUP BY movie_id, date_trunc('hour', created_at);
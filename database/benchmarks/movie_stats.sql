@@ -0,0 +1,97 @@
+-- Benchmark: trigger-maintained movie_stats vs. aggregating reviews on every read
+--
+-- Run as the table owner (it toggles the trigger) against a database initialized with init.sql:
+--   psql -U postgres -d moviereviews -f database/benchmarks/movie_stats.sql
+--
+-- Everything runs in one transaction that is rolled back at the end, so the database is left
+-- as it was. Needs a few GB of free disk for the 10M generated rows.
+
+\timing on
+BEGIN;
+
+-- Measure movie_stats alone; the trend rollup trigger would add its own cost to every insert
+ALTER TABLE reviews DISABLE TRIGGER reviews_trend_buckets;
+
+-- 1. Write cost: 1M inserts without and with the trigger
+ALTER TABLE reviews DISABLE TRIGGER reviews_movie_stats;
+INSERT INTO reviews (movie_id, review_text, sentiment, sentiment_score, rating, created_at)
+SELECT 'bench-' || (i % 1000),
+       'Benchmark review ' || i,
+       (ARRAY['positive', 'negative', 'neutral'])[1 + i % 3],
+       (i % 200) / 100.0 - 1.0,
+       1.0 + (i % 41) / 10.0,
+       TIMESTAMP '2024-01-01' + i * INTERVAL '1 second'
+FROM generate_series(1, 1000000) AS i;
+ALTER TABLE reviews ENABLE TRIGGER reviews_movie_stats;
+
+-- Bring movie_stats in line with the rows inserted while the trigger was off
+INSERT INTO movie_stats (movie_id, total_reviews, rating_sum, rating_count, sentiment_score_sum,
+                         sentiment_score_count, positive_reviews, negative_reviews, neutral_reviews, latest_review)
+SELECT movie_id, COUNT(*), COALESCE(SUM(rating), 0), COUNT(rating), COALESCE(SUM(sentiment_score), 0),
+       COUNT(sentiment_score), COUNT(*) FILTER (WHERE sentiment = 'positive'),
+       COUNT(*) FILTER (WHERE sentiment = 'negative'), COUNT(*) FILTER (WHERE sentiment = 'neutral'),
+       MAX(created_at)
+FROM reviews WHERE movie_id LIKE 'bench-%' GROUP BY movie_id;
+
+INSERT INTO reviews (movie_id, review_text, sentiment, sentiment_score, rating, created_at)
+SELECT 'bench-' || (i % 1000),
+       'Benchmark review ' || i,
+       (ARRAY['positive', 'negative', 'neutral'])[1 + i % 3],
+       (i % 200) / 100.0 - 1.0,
+       1.0 + (i % 41) / 10.0,
+       TIMESTAMP '2024-01-01' + i * INTERVAL '1 second'
+FROM generate_series(1000001, 2000000) AS i;
+
+-- Sanity check: after 1M trigger-maintained inserts the row still matches a fresh aggregate
+SELECT s.total_reviews = a.total AND s.positive_reviews = a.positive AND s.rating_count = a.rated AS consistent
+FROM movie_stats s,
+     (SELECT COUNT(*) AS total, COUNT(*) FILTER (WHERE sentiment = 'positive') AS positive, COUNT(rating) AS rated
+      FROM reviews WHERE movie_id = 'bench-42') a
+WHERE s.movie_id = 'bench-42';
+
+-- 2. Fill up to 10M rows (trigger off for speed, then rebuild movie_stats from scratch)
+ALTER TABLE reviews DISABLE TRIGGER reviews_movie_stats;
+INSERT INTO reviews (movie_id, review_text, sentiment, sentiment_score, rating, created_at)
+SELECT 'bench-' || (i % 1000),
+       'Benchmark review ' || i,
+       (ARRAY['positive', 'negative', 'neutral'])[1 + i % 3],
+       (i % 200) / 100.0 - 1.0,
+       1.0 + (i % 41) / 10.0,
+       TIMESTAMP '2024-01-01' + i * INTERVAL '1 second'
+FROM generate_series(2000001, 10000000) AS i;
+ALTER TABLE reviews ENABLE TRIGGER reviews_movie_stats;
+
+DELETE FROM movie_stats;
+INSERT INTO movie_stats (movie_id, total_reviews, rating_sum, rating_count, sentiment_score_sum,
+                         sentiment_score_count, positive_reviews, negative_reviews, neutral_reviews, latest_review)
+SELECT movie_id, COUNT(*), COALESCE(SUM(rating), 0), COUNT(rating), COALESCE(SUM(sentiment_score), 0),
+       COUNT(sentiment_score), COUNT(*) FILTER (WHERE sentiment = 'positive'),
+       COUNT(*) FILTER (WHERE sentiment = 'negative'), COUNT(*) FILTER (WHERE sentiment = 'neutral'),
+       MAX(created_at)
+FROM reviews GROUP BY movie_id;
+ANALYZE reviews;
+ANALYZE movie_stats;
+
+-- 3. Read cost, all movies: the old review_stats view definition vs. the summary table
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT movie_id, COUNT(*), AVG(rating), AVG(sentiment_score),
+       COUNT(CASE WHEN sentiment = 'positive' THEN 1 END),
+       COUNT(CASE WHEN sentiment = 'negative' THEN 1 END),
+       COUNT(CASE WHEN sentiment = 'neutral' THEN 1 END),
+       MAX(created_at)
+FROM reviews GROUP BY movie_id;
+
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM review_stats;
+
+-- 4. Read cost, one movie (about 10k reviews)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT movie_id, COUNT(*), AVG(rating), AVG(sentiment_score),
+       COUNT(CASE WHEN sentiment = 'positive' THEN 1 END),
+       COUNT(CASE WHEN sentiment = 'negative' THEN 1 END),
+       COUNT(CASE WHEN sentiment = 'neutral' THEN 1 END),
+       MAX(created_at)
+FROM reviews WHERE movie_id = 'bench-42' GROUP BY movie_id;
+
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM movie_stats WHERE movie_id = 'bench-42';
+
+ROLLBACK;
@@ -0,0 +1,78 @@
+-- Benchmark: PostgreSQL full-text search (tsvector + GIN) for the queries /api/reviews/search answers
+--
+-- Run against a database initialized with init.sql:
+--   psql -U postgres -d moviereviews -f database/benchmarks/review_search.sql
+--
+-- Generates synthetic reviews drawn from a 20,000-word vocabulary with a skewed (roughly Zipf)
+-- word distribution, so some terms match most reviews and others only a handful. Rows default
+-- to 1M; set -v rows=5000000 for more. Everything is rolled back unless -v keep=1 is given, in
+-- which case the generated reviews stay (the GIN index is still dropped) so the backend's
+-- in-memory index can be checked on the same data after a restart:
+--   curl 'localhost:8080/api/reviews/search?q=w2+w500'      (indexMicros in the response)
+-- The backend side of the comparison is ReviewSearchIndexBenchmark (backend/src/jmh), which builds
+-- the index offline from reviews generated the same way and runs the same four queries.
+-- Delete them afterwards with: DELETE FROM reviews WHERE movie_id LIKE 'search-bench-%';
+
+\if :{?rows}
+\else
+\set rows 1000000
+\endif
+
+\timing on
+BEGIN;
+
+INSERT INTO reviews (movie_id, review_text, sentiment, sentiment_score, rating, created_at)
+SELECT 'search-bench-' || (i % 1000),
+       (SELECT string_agg('w' || floor(exp(random() * ln(20000)))::int, ' ')
+        FROM generate_series(1, 20 + i % 30)),
+       (ARRAY['positive', 'negative', 'neutral'])[1 + i % 3],
+       (i % 200) / 100.0 - 1.0,
+       1.0 + (i % 41) / 10.0,
+       TIMESTAMP '2024-01-01' + i * INTERVAL '1 second'
+FROM generate_series(1, :rows) AS i;
+
+-- Build cost of the search index the database would need
+CREATE INDEX idx_reviews_search_bench ON reviews USING GIN (to_tsvector('simple', review_text));
+ANALYZE reviews;
+
+-- Term frequencies, to pick comparable queries on the backend side
+SELECT word, ndoc FROM ts_stat($$SELECT to_tsvector('simple', review_text) FROM reviews
+                                 WHERE movie_id = 'search-bench-42'$$)
+WHERE word IN ('w2', 'w500', 'w15000') ORDER BY ndoc DESC;
+
+-- 1. Rare term, ranked
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, ts_rank(to_tsvector('simple', review_text), query) AS score
+FROM reviews, plainto_tsquery('simple', 'w15000') query
+WHERE to_tsvector('simple', review_text) @@ query
+ORDER BY score DESC, id DESC LIMIT 20;
+
+-- 2. Common term, ranked: every match has to be fetched and ranked before the top 20 are known
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, ts_rank(to_tsvector('simple', review_text), query) AS score
+FROM reviews, plainto_tsquery('simple', 'w2') query
+WHERE to_tsvector('simple', review_text) @@ query
+ORDER BY score DESC, id DESC LIMIT 20;
+
+-- 3. Two terms (both required), ranked
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, ts_rank(to_tsvector('simple', review_text), query) AS score
+FROM reviews, plainto_tsquery('simple', 'w2 w500') query
+WHERE to_tsvector('simple', review_text) @@ query
+ORDER BY score DESC, id DESC LIMIT 20;
+
+-- 4. Two terms within one movie and sentiment
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, ts_rank(to_tsvector('simple', review_text), query) AS score
+FROM reviews, plainto_tsquery('simple', 'w2 w500') query
+WHERE to_tsvector('simple', review_text) @@ query
+  AND movie_id = 'search-bench-42' AND sentiment = 'positive'
+ORDER BY score DESC, id DESC LIMIT 20;
+
+DROP INDEX idx_reviews_search_bench;
+
+\if :{?keep}
+COMMIT;
+\else
+ROLLBACK;
+\endif
@@ -24,13 +24,190 @@ CREATE TABLE IF NOT EXISTS reviews (
     sentiment VARCHAR(50),
     sentiment_score DOUBLE PRECISION,
     rating DOUBLE PRECISION,
+    sentiment_engine VARCHAR(20),
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
--- Create indexes for better performance
-CREATE INDEX IF NOT EXISTS idx_reviews_movie_id ON reviews(movie_id);
-CREATE INDEX IF NOT EXISTS idx_reviews_created_at ON reviews(created_at);
-CREATE INDEX IF NOT EXISTS idx_reviews_sentiment ON reviews(sentiment);
+-- Indexes matched to the review queries (see db/migration/V5__review_query_indexes.sql)
+CREATE INDEX IF NOT EXISTS idx_reviews_movie_created
+    ON reviews (movie_id, created_at DESC, id DESC) INCLUDE (sentiment, sentiment_score, rating);
+CREATE INDEX IF NOT EXISTS idx_reviews_created ON reviews (created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_reviews_pending ON reviews (id) WHERE sentiment = 'pending';
+
+-- Per-movie review aggregates, kept up to date by a trigger in the same transaction as each
+-- write to reviews, so reading one movie's stats is a primary key lookup instead of a scan.
+-- Sums and counts are stored (not averages) so each change is a constant-time adjustment.
+CREATE TABLE IF NOT EXISTS movie_stats (
+    movie_id VARCHAR(255) PRIMARY KEY,
+    total_reviews BIGINT NOT NULL DEFAULT 0,
+    rating_sum DOUBLE PRECISION NOT NULL DEFAULT 0,
+    rating_count BIGINT NOT NULL DEFAULT 0,
+    sentiment_score_sum DOUBLE PRECISION NOT NULL DEFAULT 0,
+    sentiment_score_count BIGINT NOT NULL DEFAULT 0,
+    positive_reviews BIGINT NOT NULL DEFAULT 0,
+    negative_reviews BIGINT NOT NULL DEFAULT 0,
+    neutral_reviews BIGINT NOT NULL DEFAULT 0,
+    latest_review TIMESTAMP
+);
+
+-- Add (direction = 1) or remove (direction = -1) one review's contribution to its movie's row
+CREATE OR REPLACE FUNCTION movie_stats_apply(r reviews, direction INTEGER) RETURNS VOID AS $$
+BEGIN
+    INSERT INTO movie_stats AS s (movie_id, total_reviews, rating_sum, rating_count,
+                                  sentiment_score_sum, sentiment_score_count,
+                                  positive_reviews, negative_reviews, neutral_reviews, latest_review)
+    VALUES (r.movie_id, direction,
+            direction * COALESCE(r.rating, 0), CASE WHEN r.rating IS NOT NULL THEN direction ELSE 0 END,
+            direction * COALESCE(r.sentiment_score, 0), CASE WHEN r.sentiment_score IS NOT NULL THEN direction ELSE 0 END,
+            CASE WHEN r.sentiment = 'positive' THEN direction ELSE 0 END,
+            CASE WHEN r.sentiment = 'negative' THEN direction ELSE 0 END,
+            CASE WHEN r.sentiment = 'neutral' THEN direction ELSE 0 END,
+            CASE WHEN direction > 0 THEN r.created_at END)
+    ON CONFLICT (movie_id) DO UPDATE SET
+        total_reviews = s.total_reviews + EXCLUDED.total_reviews,
+        rating_sum = s.rating_sum + EXCLUDED.rating_sum,
+        rating_count = s.rating_count + EXCLUDED.rating_count,
+        sentiment_score_sum = s.sentiment_score_sum + EXCLUDED.sentiment_score_sum,
+        sentiment_score_count = s.sentiment_score_count + EXCLUDED.sentiment_score_count,
+        positive_reviews = s.positive_reviews + EXCLUDED.positive_reviews,
+        negative_reviews = s.negative_reviews + EXCLUDED.negative_reviews,
+        neutral_reviews = s.neutral_reviews + EXCLUDED.neutral_reviews,
+        latest_review = GREATEST(s.latest_review, EXCLUDED.latest_review);
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION movie_stats_on_review_change() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM movie_stats_apply(OLD, -1);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM movie_stats_apply(NEW, 1);
+    END IF;
+    -- Only a removed or moved review can lower a movie's latest timestamp
+    IF TG_OP = 'DELETE' OR (TG_OP = 'UPDATE' AND (OLD.movie_id IS DISTINCT FROM NEW.movie_id
+                                                  OR OLD.created_at IS DISTINCT FROM NEW.created_at)) THEN
+        UPDATE movie_stats SET latest_review = (SELECT MAX(created_at) FROM reviews WHERE movie_id = OLD.movie_id)
+        WHERE movie_id = OLD.movie_id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS reviews_movie_stats ON reviews;
+CREATE TRIGGER reviews_movie_stats
+    AFTER INSERT OR DELETE OR UPDATE OF movie_id, sentiment, sentiment_score, rating, created_at ON reviews
+    FOR EACH ROW EXECUTE FUNCTION movie_stats_on_review_change();
+
+-- Per-movie review rollups by time bucket for /api/reviews/{movieId}/trend (see
+-- db/migration/V6__review_trend_buckets.sql), kept up to date by a trigger in the same
+-- transaction as each write to reviews. Reviews land in hourly buckets; the
+-- backend periodically folds hourly buckets older than its retention into daily ones
+-- (review_trend_compact), so a year of history is a few hundred rows per movie and trend reads
+-- never touch reviews. Sums and counts are stored, as in movie_stats.
+CREATE TABLE IF NOT EXISTS review_trend_buckets (
+    movie_id VARCHAR(255) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    resolution VARCHAR(8) NOT NULL CHECK (resolution IN ('hour', 'day')),
+    total_reviews BIGINT NOT NULL DEFAULT 0,
+    rating_sum DOUBLE PRECISION NOT NULL DEFAULT 0,
+    rating_count BIGINT NOT NULL DEFAULT 0,
+    sentiment_score_sum DOUBLE PRECISION NOT NULL DEFAULT 0,
+    sentiment_score_count BIGINT NOT NULL DEFAULT 0,
+    positive_reviews BIGINT NOT NULL DEFAULT 0,
+    negative_reviews BIGINT NOT NULL DEFAULT 0,
+    neutral_reviews BIGINT NOT NULL DEFAULT 0,
+    pending_reviews BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (movie_id, bucket_start, resolution)
+);
+
+-- Compaction picks the old hourly buckets of every movie
+CREATE INDEX IF NOT EXISTS idx_review_trend_hourly
+    ON review_trend_buckets (bucket_start) WHERE resolution = 'hour';
+
+-- Add (direction = 1) or remove (direction = -1) one review's contribution to its hourly bucket.
+-- A change to a review whose hour was already compacted lands in a new hourly row and is folded
+-- into the daily one by the next compaction.
+CREATE OR REPLACE FUNCTION review_trend_apply(r reviews, direction INTEGER) RETURNS VOID AS $$
+BEGIN
+    IF r.created_at IS NULL THEN
+        RETURN;
+    END IF;
+    INSERT INTO review_trend_buckets AS b (movie_id, bucket_start, resolution, total_reviews,
+                                           rating_sum, rating_count, sentiment_score_sum, sentiment_score_count,
+                                           positive_reviews, negative_reviews, neutral_reviews, pending_reviews)
+    VALUES (r.movie_id, date_trunc('hour', r.created_at), 'hour', direction,
+            direction * COALESCE(r.rating, 0), CASE WHEN r.rating IS NOT NULL THEN direction ELSE 0 END,
+            direction * COALESCE(r.sentiment_score, 0), CASE WHEN r.sentiment_score IS NOT NULL THEN direction ELSE 0 END,
+            CASE WHEN r.sentiment = 'positive' THEN direction ELSE 0 END,
+            CASE WHEN r.sentiment = 'negative' THEN direction ELSE 0 END,
+            CASE WHEN r.sentiment = 'neutral' THEN direction ELSE 0 END,
+            CASE WHEN r.sentiment = 'pending' THEN direction ELSE 0 END)
+    ON CONFLICT (movie_id, bucket_start, resolution) DO UPDATE SET
+        total_reviews = b.total_reviews + EXCLUDED.total_reviews,
+        rating_sum = b.rating_sum + EXCLUDED.rating_sum,
+        rating_count = b.rating_count + EXCLUDED.rating_count,
+        sentiment_score_sum = b.sentiment_score_sum + EXCLUDED.sentiment_score_sum,
+        sentiment_score_count = b.sentiment_score_count + EXCLUDED.sentiment_score_count,
+        positive_reviews = b.positive_reviews + EXCLUDED.positive_reviews,
+        negative_reviews = b.negative_reviews + EXCLUDED.negative_reviews,
+        neutral_reviews = b.neutral_reviews + EXCLUDED.neutral_reviews,
+        pending_reviews = b.pending_reviews + EXCLUDED.pending_reviews;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION review_trend_on_review_change() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM review_trend_apply(OLD, -1);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM review_trend_apply(NEW, 1);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS reviews_trend_buckets ON reviews;
+CREATE TRIGGER reviews_trend_buckets
+    AFTER INSERT OR DELETE OR UPDATE OF movie_id, sentiment, sentiment_score, rating, created_at ON reviews
+    FOR EACH ROW EXECUTE FUNCTION review_trend_on_review_change();
+
+-- Fold hourly buckets starting before cutoff into daily buckets; returns the number of hourly
+-- buckets folded. The rows are deleted and re-aggregated in one statement, so an hourly row
+-- written concurrently is either folded now or left for the next run, never counted twice.
+CREATE OR REPLACE FUNCTION review_trend_compact(cutoff TIMESTAMP) RETURNS BIGINT AS $$
+DECLARE
+    folded BIGINT;
+BEGIN
+    WITH hourly AS (
+        DELETE FROM review_trend_buckets
+        WHERE resolution = 'hour' AND bucket_start < cutoff
+        RETURNING *
+    ), daily AS (
+        INSERT INTO review_trend_buckets AS b (movie_id, bucket_start, resolution, total_reviews,
+                                               rating_sum, rating_count, sentiment_score_sum, sentiment_score_count,
+                                               positive_reviews, negative_reviews, neutral_reviews, pending_reviews)
+        SELECT movie_id, date_trunc('day', bucket_start), 'day', SUM(total_reviews),
+               SUM(rating_sum), SUM(rating_count), SUM(sentiment_score_sum), SUM(sentiment_score_count),
+               SUM(positive_reviews), SUM(negative_reviews), SUM(neutral_reviews), SUM(pending_reviews)
+        FROM hourly
+        GROUP BY movie_id, date_trunc('day', bucket_start)
+        ON CONFLICT (movie_id, bucket_start, resolution) DO UPDATE SET
+            total_reviews = b.total_reviews + EXCLUDED.total_reviews,
+            rating_sum = b.rating_sum + EXCLUDED.rating_sum,
+            rating_count = b.rating_count + EXCLUDED.rating_count,
+            sentiment_score_sum = b.sentiment_score_sum + EXCLUDED.sentiment_score_sum,
+            sentiment_score_count = b.sentiment_score_count + EXCLUDED.sentiment_score_count,
+            positive_reviews = b.positive_reviews + EXCLUDED.positive_reviews,
+            negative_reviews = b.negative_reviews + EXCLUDED.negative_reviews,
+            neutral_reviews = b.neutral_reviews + EXCLUDED.neutral_reviews,
+            pending_reviews = b.pending_reviews + EXCLUDED.pending_reviews
+    )
+    SELECT COUNT(*) INTO folded FROM hourly;
+    RETURN folded;
+END;
+$$ LANGUAGE plpgsql;
 
 -- Insert some sample data for testing
 INSERT INTO reviews (movie_id, review_text, sentiment, sentiment_score, rating, created_at) VALUES
@@ -45,24 +222,42 @@ INSERT INTO reviews (movie_id, review_text, sentiment, sentiment_score, rating,
 
 -- Grant permissions on the table to movieuser
 GRANT ALL PRIVILEGES ON TABLE reviews TO movieuser;
+GRANT ALL PRIVILEGES ON TABLE movie_stats TO movieuser;
+GRANT ALL PRIVILEGES ON TABLE review_trend_buckets TO movieuser;
 GRANT USAGE, SELECT ON SEQUENCE reviews_id_seq TO movieuser;
 
--- Create a view for review statistics (useful for admin dashboard)
+-- The backend applies schema migrations (backend/src/main/resources/db/migration) as movieuser;
+-- index changes and replacing the trigger functions need the owner
+ALTER TABLE reviews OWNER TO movieuser;
+ALTER TABLE movie_stats OWNER TO movieuser;
+ALTER TABLE review_trend_buckets OWNER TO movieuser;
+ALTER FUNCTION movie_stats_apply(reviews, INTEGER) OWNER TO movieuser;
+ALTER FUNCTION movie_stats_on_review_change() OWNER TO movieuser;
+ALTER FUNCTION review_trend_apply(reviews, INTEGER) OWNER TO movieuser;
+ALTER FUNCTION review_trend_on_review_change() OWNER TO movieuser;
+ALTER FUNCTION review_trend_compact(TIMESTAMP) OWNER TO movieuser;
+
+-- Hand out IDs in blocks of 50 (must match allocationSize on the Review entity)
+ALTER SEQUENCE reviews_id_seq INCREMENT BY 50;
+
+-- Review statistics view (useful for admin dashboard); reads the trigger-maintained movie_stats
+-- table, so it costs one row per movie instead of a scan of every review
 CREATE OR REPLACE VIEW review_stats AS
 SELECT 
     movie_id,
-    COUNT(*) as total_reviews,
-    AVG(rating) as avg_rating,
-    AVG(sentiment_score) as avg_sentiment_score,
-    COUNT(CASE WHEN sentiment = 'positive' THEN 1 END) as positive_reviews,
-    COUNT(CASE WHEN sentiment = 'negative' THEN 1 END) as negative_reviews,
-    COUNT(CASE WHEN sentiment = 'neutral' THEN 1 END) as neutral_reviews,
-    MAX(created_at) as latest_review
-FROM reviews 
-GROUP BY movie_id;
+    total_reviews,
+    rating_sum / NULLIF(rating_count, 0) as avg_rating,
+    sentiment_score_sum / NULLIF(sentiment_score_count, 0) as avg_sentiment_score,
+    positive_reviews,
+    negative_reviews,
+    neutral_reviews,
+    latest_review
+FROM movie_stats
+WHERE total_reviews > 0;
 
--- Grant permissions on the view
+-- Grant permissions on the view; migrations replace it, which needs the owner
 GRANT ALL PRIVILEGES ON TABLE review_stats TO movieuser;
+ALTER VIEW review_stats OWNER TO movieuser;
 
 -- Display initialization summary
 \echo ''
@@ -71,7 +266,7 @@ GRANT ALL PRIVILEGES ON TABLE review_stats TO movieuser;
 \echo '========================================='
 \echo 'Database: moviereviews'
 \echo 'User: movieuser'
-\echo 'Tables: reviews, review_stats (view)'
+\echo 'Tables: reviews, movie_stats, review_trend_buckets, review_stats (view)'
 \echo 'Sample data: 8 reviews inserted'
 \echo '========================================='
 \echo ''
@@ -0,0 +1,74 @@
+#!/usr/bin/env sh
+# Migrate throwaway Postgres databases to the latest schema and check the review query plans
+# against them.
+#
+#   database/tests/check_query_plans.sh
+#
+# Needs Docker. Two databases are checked, one for each way the backend meets a database:
+#   - an empty one, migrated from V1 like a fresh install. Reviews are inserted after V1, so the
+#     backfills in later migrations run against existing data.
+#   - one created by database/init.sql. Flyway baselines it at V1 (baseline-on-migrate), so only
+#     V2 and later run against it, as movieuser, the owner init.sql hands the tables to.
+# The migrations are applied in order with psql, the same scripts Flyway runs on backend startup,
+# each in one transaction unless its .conf file says otherwise. This also catches a migration that
+# no longer applies cleanly, or that is not safe to run over a schema init.sql already created.
+set -eu
+
+ROOT=$(cd "$(dirname "$0")/../.." && pwd)
+IMAGE=${POSTGRES_IMAGE:-postgres:15-alpine}
+CONTAINER=movie-review-plan-check-$$
+
+docker run -d --rm --name "$CONTAINER" \
+    -e POSTGRES_PASSWORD=postgres -e POSTGRES_DB=postgres \
+    -v "$ROOT/backend/src/main/resources/db/migration:/migrations:ro" \
+    -v "$ROOT/database:/database:ro" \
+    "$IMAGE" >/dev/null
+trap 'docker stop "$CONTAINER" >/dev/null' EXIT
+
+until docker exec "$CONTAINER" pg_isready -U postgres -q; do
+    sleep 1
+done
+# The entrypoint restarts the server once after initdb; wait for the final one
+sleep 2
+until docker exec "$CONTAINER" pg_isready -U postgres -q; do
+    sleep 1
+done
+
+# migrate <database> <user> <first version>
+migrate() {
+    for migration in $(docker exec "$CONTAINER" sh -c 'ls /migrations/V*.sql | sort -V'); do
+        version=$(basename "$migration" | sed 's/^V\([0-9]*\)__.*/\1/')
+        if [ "$version" -lt "$3" ]; then
+            continue
+        fi
+        single_transaction=-1
+        if docker exec "$CONTAINER" grep -qs 'executeInTransaction=false' "$migration.conf"; then
+            single_transaction=
+        fi
+        echo "Applying $(basename "$migration") to $1"
+        docker exec "$CONTAINER" psql -q -v ON_ERROR_STOP=1 $single_transaction -U "$2" -d "$1" -f "$migration"
+        if [ "$version" -eq 1 ]; then
+            docker exec "$CONTAINER" psql -q -v ON_ERROR_STOP=1 -U "$2" -d "$1" -c "
+                INSERT INTO reviews (movie_id, review_text, sentiment, sentiment_score, rating, created_at)
+                SELECT 'baseline-' || (i % 5), 'Review stored before the later migrations ' || i,
+                       (ARRAY['positive', 'negative', 'neutral'])[1 + i % 3], (i % 200) / 100.0 - 1.0,
+                       1.0 + (i % 41) / 10.0, TIMESTAMP '2023-12-01' + i * INTERVAL '1 hour'
+                FROM generate_series(1, 500) AS i"
+        fi
+    done
+}
+
+check() {
+    docker exec "$CONTAINER" psql -q -v ON_ERROR_STOP=1 -U postgres -d "$1" -f /database/tests/query_plans.sql
+    echo "Query plans OK ($1)"
+}
+
+docker exec "$CONTAINER" createdb -U postgres migrated
+migrate migrated postgres 1
+check migrated
+
+# init.sql creates movieuser and the moviereviews database's schema
+docker exec "$CONTAINER" createdb -U postgres moviereviews
+docker exec "$CONTAINER" psql -q -v ON_ERROR_STOP=1 -U postgres -d moviereviews -f /database/init.sql >/dev/null
+migrate moviereviews movieuser 2
+check moviereviews
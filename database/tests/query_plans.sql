@@ -0,0 +1,161 @@
+-- Query plan regression check: the backend's hot review queries must be served by the indexes
+-- from db/migration/V5__review_query_indexes.sql, reading rows in index order without a Sort.
+--
+-- Run against a database migrated to the latest schema (check_query_plans.sh sets one up in a
+-- disposable container). Fails with an error naming the query whose plan regressed. Also checks
+-- that the trend rollups (db/migration/V6__review_trend_buckets.sql) and movie_stats
+-- (db/migration/V4__movie_stats.sql) agree with the reviews.
+-- Test data is generated in a transaction that is rolled back.
+
+\set ON_ERROR_STOP on
+BEGIN;
+
+-- Plan of one query, as one string
+CREATE FUNCTION pg_temp.plan_of(query TEXT) RETURNS TEXT AS $$
+DECLARE
+    line TEXT;
+    plan TEXT := '';
+BEGIN
+    FOR line IN EXECUTE 'EXPLAIN (COSTS OFF) ' || query LOOP
+        plan := plan || line || E'\n';
+    END LOOP;
+    RETURN plan;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION pg_temp.expect_plan(name TEXT, query TEXT, expected_index TEXT, sort_allowed BOOLEAN DEFAULT FALSE)
+RETURNS VOID AS $$
+DECLARE
+    plan TEXT := pg_temp.plan_of(query);
+BEGIN
+    IF position(expected_index IN plan) = 0 THEN
+        RAISE EXCEPTION 'Query plan regression in %: % not used%', name, expected_index, E'\n' || plan;
+    END IF;
+    IF NOT sort_allowed AND plan ~ '(^|\s)Sort\M' THEN
+        RAISE EXCEPTION 'Query plan regression in %: rows are sorted instead of read in index order%', name, E'\n' || plan;
+    END IF;
+    RAISE NOTICE 'ok: % (%)', name, expected_index;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 200k reviews over 1000 movies, a few hundred of them still pending
+INSERT INTO reviews (movie_id, review_text, sentiment, sentiment_score, rating, created_at)
+SELECT 'plan-' || (i % 1000),
+       'Plan check review ' || i,
+       CASE WHEN i % 500 = 0 THEN 'pending' ELSE (ARRAY['positive', 'negative', 'neutral'])[1 + i % 3] END,
+       (i % 200) / 100.0 - 1.0,
+       1.0 + (i % 41) / 10.0,
+       TIMESTAMP '2024-01-01' + i * INTERVAL '1 minute'
+FROM generate_series(1, 200000) AS i;
+ANALYZE reviews;
+
+-- The single-column indexes V5 replaced must be gone
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_indexes WHERE tablename = 'reviews'
+               AND indexname IN ('idx_reviews_movie_id', 'idx_reviews_created_at', 'idx_reviews_sentiment')) THEN
+        RAISE EXCEPTION 'Superseded single-column indexes still exist on reviews';
+    END IF;
+END;
+$$;
+
+-- ReviewRepository.findByMovieIdOrderByCreatedAtDesc / ReviewJdbcRepository.findByMovieId
+SELECT pg_temp.expect_plan('movie reviews, newest first',
+    $q$SELECT * FROM reviews WHERE movie_id = 'plan-42' ORDER BY created_at DESC, id DESC$q$,
+    'idx_reviews_movie_created');
+
+-- ReviewRepository.findPageByMovieId / findPageByMovieIdBefore (keyset pages)
+SELECT pg_temp.expect_plan('first history page',
+    $q$SELECT * FROM reviews WHERE movie_id = 'plan-42' ORDER BY created_at DESC, id DESC LIMIT 20$q$,
+    'idx_reviews_movie_created');
+SELECT pg_temp.expect_plan('next history page',
+    $q$SELECT * FROM reviews WHERE movie_id = 'plan-42'
+       AND (created_at < TIMESTAMP '2024-03-01' OR (created_at = TIMESTAMP '2024-03-01' AND id < 100000))
+       ORDER BY created_at DESC, id DESC LIMIT 20$q$,
+    'idx_reviews_movie_created');
+
+-- List views that only need the scores; once the table is vacuumed these become index-only
+-- scans (the uncommitted test rows are never all-visible, so only the index is checked here)
+SELECT pg_temp.expect_plan('movie sentiment over time',
+    $q$SELECT created_at, sentiment, sentiment_score, rating FROM reviews
+       WHERE movie_id = 'plan-42' ORDER BY created_at DESC, id DESC LIMIT 100$q$,
+    'idx_reviews_movie_created');
+
+-- ReviewRepository.findRecentReviews
+SELECT pg_temp.expect_plan('recent reviews',
+    $q$SELECT * FROM reviews ORDER BY created_at DESC, id DESC LIMIT 50$q$,
+    'idx_reviews_created');
+
+-- ReviewJdbcRepository.findPendingSentiment
+SELECT pg_temp.expect_plan('pending sentiment queue',
+    $q$SELECT * FROM reviews WHERE sentiment = 'pending' AND id > 1000 ORDER BY id LIMIT 50$q$,
+    'idx_reviews_pending');
+
+-- ReviewJdbcRepository.findLatestByMovieIds: an IN-list scan returns movies in array order
+-- (older Postgres versions), so the window's sort is accepted; the index lookup is not optional
+SELECT pg_temp.expect_plan('latest reviews for several movies',
+    $q$SELECT * FROM (
+           SELECT *, ROW_NUMBER() OVER (PARTITION BY movie_id ORDER BY created_at DESC, id DESC) AS rn
+           FROM reviews WHERE movie_id = ANY(ARRAY['plan-1', 'plan-2', 'plan-3'])) ranked
+       WHERE rn <= 5 ORDER BY movie_id, created_at DESC, id DESC$q$,
+    'idx_reviews_movie_created', TRUE);
+
+-- ReviewJdbcRepository.findTrendBuckets reads a range of one movie's rollups, never reviews
+-- (grouping hourly rows into days may sort the handful of rows it reads)
+ANALYZE review_trend_buckets;
+SELECT pg_temp.expect_plan('movie trend by day',
+    $q$SELECT date_trunc('day', bucket_start), CASE WHEN true THEN 'day' ELSE resolution END,
+              SUM(total_reviews), SUM(rating_sum), SUM(rating_count), SUM(positive_reviews)
+       FROM review_trend_buckets
+       WHERE movie_id = 'plan-42' AND bucket_start >= TIMESTAMP '2024-01-01' AND bucket_start < TIMESTAMP '2025-01-01'
+       GROUP BY 1, 2 HAVING SUM(total_reviews) > 0 ORDER BY 1, 2 DESC$q$,
+    'review_trend_buckets_pkey', TRUE);
+
+-- The trigger-maintained rollups must still agree with the reviews after a rescore and a
+-- compaction of the first two months into daily buckets
+UPDATE reviews SET sentiment = 'positive' WHERE movie_id = 'plan-42' AND sentiment = 'pending';
+SELECT review_trend_compact(TIMESTAMP '2024-03-01');
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM review_trend_buckets WHERE resolution = 'hour' AND bucket_start < TIMESTAMP '2024-03-01') THEN
+        RAISE EXCEPTION 'Hourly trend buckets before the compaction cutoff were not folded';
+    END IF;
+    IF EXISTS (
+        SELECT 1
+        FROM (SELECT date_trunc('day', created_at) AS day, COUNT(*) AS total, COUNT(rating) AS rated,
+                     COUNT(*) FILTER (WHERE sentiment = 'positive') AS positive,
+                     COUNT(*) FILTER (WHERE sentiment = 'pending') AS pending
+              FROM reviews WHERE movie_id = 'plan-42' GROUP BY 1) raw
+        FULL JOIN (SELECT date_trunc('day', bucket_start) AS day, SUM(total_reviews) AS total, SUM(rating_count) AS rated,
+                          SUM(positive_reviews) AS positive, SUM(pending_reviews) AS pending
+                   FROM review_trend_buckets WHERE movie_id = 'plan-42' GROUP BY 1 HAVING SUM(total_reviews) > 0) rollup
+        USING (day)
+        WHERE raw.total IS DISTINCT FROM rollup.total OR raw.rated IS DISTINCT FROM rollup.rated
+           OR raw.positive IS DISTINCT FROM rollup.positive OR raw.pending IS DISTINCT FROM rollup.pending) THEN
+        RAISE EXCEPTION 'Trend rollups disagree with the reviews of plan-42';
+    END IF;
+    RAISE NOTICE 'ok: trend rollups match reviews';
+END;
+$$;
+
+-- movie_stats must agree with the reviews of every movie: rows backfilled by the migration,
+-- rows written by init.sql with the trigger in place, and the test rows above
+DO $$
+BEGIN
+    IF EXISTS (
+        SELECT 1
+        FROM (SELECT movie_id, COUNT(*) AS total, COUNT(rating) AS rated,
+                     COUNT(*) FILTER (WHERE sentiment = 'positive') AS positive
+              FROM reviews GROUP BY movie_id) raw
+        FULL JOIN (SELECT movie_id, total_reviews AS total, rating_count AS rated, positive_reviews AS positive
+                   FROM movie_stats WHERE total_reviews > 0) stats
+        USING (movie_id)
+        WHERE raw.total IS DISTINCT FROM stats.total OR raw.rated IS DISTINCT FROM stats.rated
+           OR raw.positive IS DISTINCT FROM stats.positive) THEN
+        RAISE EXCEPTION 'movie_stats disagrees with the reviews';
+    END IF;
+    RAISE NOTICE 'ok: movie_stats matches reviews';
+END;
+$$;
+
+ROLLBACK;
@@ -1,4 +1,4 @@
-import React, { useState, useEffect } from 'react';
+import React, { useState, useEffect, useRef } from 'react';
 import axios from 'axios';
 import { MOVIES } from './data/movies';
 import MovieGrid from './components/MovieGrid';
@@ -33,6 +33,9 @@ function App() {
   const [frontendHealthy, setFrontendHealthy] = useState(true);
   const [frontendOverloaded, setFrontendOverloaded] = useState(false);
 
+  // True while the backend event stream is connected; status polling pauses meanwhile
+  const eventsConnected = useRef(false);
+
   // Add notification helper
   const addNotification = (message, type = 'info') => {
     const id = Date.now();
@@ -96,7 +99,20 @@ function App() {
     try {
       const reviewsData = {};
       
-      // Load reviews for each movie with shorter timeout
+      // Load every movie's latest reviews in one request
+      try {
+        const movieIds = MOVIES.map(movie => movie.id).join(',');
+        const response = await axios.get(`/api/reviews/batch?movieIds=${encodeURIComponent(movieIds)}&limit=50`, { timeout: 3000 });
+        for (const movie of MOVIES) {
+          reviewsData[movie.id] = response.data[movie.id]?.reviews || [];
+        }
+        setReviews(reviewsData);
+        return;
+      } catch (err) {
+        console.log('Batch review load failed, loading movies one by one:', err.message);
+      }
+      
+      // Fallback: load reviews for each movie with shorter timeout
       for (const movie of MOVIES) {
         try {
           const response = await axios.get(`/api/reviews/${movie.id}`, { timeout: 1000 });
@@ -172,9 +188,12 @@ function App() {
         // Show simple success notification
         addNotification('🎯 Review analyzed successfully! Check your results below.', 'success');
         
-        // Try to reload reviews if database is working
+        // Try to reload reviews if database is working; revalidate so a cached list can't hide the new review
         try {
-          const updatedReviews = await axios.get(`/api/reviews/${movieId}`, { timeout: 5000 });
+          const updatedReviews = await axios.get(`/api/reviews/${movieId}`, {
+            timeout: 5000,
+            headers: { 'Cache-Control': 'no-cache' }
+          });
           setReviews(prev => ({
             ...prev,
             [movieId]: updatedReviews.data
@@ -376,12 +395,74 @@ function App() {
     initializeApp();
   }, []);
 
-  // Periodic status check
+  // Periodic status check - only while the event stream is down
   useEffect(() => {
-    const interval = setInterval(checkServiceStatus, 10000); // Check every 10 seconds
+    const interval = setInterval(() => {
+      if (!eventsConnected.current) {
+        checkServiceStatus();
+      }
+    }, 10000); // Check every 10 seconds
     return () => clearInterval(interval);
   }, []);
 
+  // Live updates: health changes and new reviews pushed by the backend
+  useEffect(() => {
+    if (typeof EventSource === 'undefined') {
+      return undefined;
+    }
+    let events;
+    let reopenTimer;
+    let lastEventId = null;
+
+    const open = () => {
+      // A new EventSource starts without the Last-Event-ID header, so pass the last review's ID along
+      events = new EventSource(lastEventId ? `/api/events?lastEventId=${encodeURIComponent(lastEventId)}` : '/api/events');
+
+      events.onopen = () => {
+        eventsConnected.current = true;
+      };
+      events.onerror = () => {
+        // The browser reconnects on its own after a dropped connection; poll until it does
+        eventsConnected.current = false;
+        // A refused stream (e.g. 503 at the subscriber limit) is closed for good, so open a new one later
+        if (events.readyState === EventSource.CLOSED) {
+          reopenTimer = setTimeout(open, 30000);
+        }
+      };
+
+      events.addEventListener('health', (event) => {
+        const health = JSON.parse(event.data);
+        setServiceStatus({
+          backend: health.status !== 'unhealthy',
+          database: health.database || false,
+          model: health.modelServer || false,
+          backendOverloaded: health.backendOverloaded || false
+        });
+      });
+
+      events.addEventListener('review', (event) => {
+        const review = JSON.parse(event.data);
+        lastEventId = event.lastEventId || lastEventId;
+        // Newest first; a review that is already listed (e.g. its pending sentiment was scored) is replaced in place
+        const upsert = (list = []) => (list.some(r => r.id === review.id)
+          ? list.map(r => (r.id === review.id ? review : r))
+          : [review, ...list]);
+        setReviews(prev => ({
+          ...prev,
+          [review.movieId]: upsert(prev[review.movieId])
+        }));
+        setLatestReviews(prev => upsert(prev).slice(0, 5));
+      });
+    };
+    open();
+
+    return () => {
+      clearTimeout(reopenTimer);
+      eventsConnected.current = false;
+      events.close();
+    };
+  }, []);
+
   // If frontend is unhealthy, show error page
   if (!frontendHealthy) {
     return (
@@ -1,4 +1,5 @@
 from flask import Flask, request, jsonify
+from werkzeug.serving import WSGIRequestHandler
 from textblob import TextBlob
 import random
 import time
@@ -9,6 +10,12 @@ app = Flask(__name__)
 # Configuration
 MODEL_PORT = int(os.getenv('MODEL_PORT', 5000))
 
+# Maximum number of texts accepted by the batch endpoint
+MAX_BATCH_SIZE = int(os.getenv('MAX_BATCH_SIZE', 256))
+
+# Extra delay per analysis request, for load tests that need a slow model server (0 = none)
+SIMULATED_LATENCY_MS = int(os.getenv('SIMULATED_LATENCY_MS', 0))
+
 # Global state for admin simulation
 model_healthy = True
 
@@ -122,6 +129,9 @@ def analyze_sentiment():
                 "message": "Text must be less than 5000 characters"
             }), 400
         
+        if SIMULATED_LATENCY_MS:
+            time.sleep(SIMULATED_LATENCY_MS / 1000)
+
         # Analyze sentiment and generate rating
         result = analyze_sentiment_and_rating(text)
         
@@ -143,6 +153,72 @@ def analyze_sentiment():
             "message": str(e)
         }), 500
 
+@app.route('/analyze/batch', methods=['POST'])
+def analyze_sentiment_batch():
+    """Batch sentiment analysis endpoint - one result per input text, in order"""
+    
+    if not model_healthy:
+        return jsonify({
+            "error": "Model service is unhealthy",
+            "message": "Sentiment analysis is temporarily unavailable"
+        }), 503
+    
+    try:
+        data = request.get_json()
+        
+        if not data or not isinstance(data.get('texts'), list):
+            return jsonify({
+                "error": "Missing required field 'texts'",
+                "message": "Request must contain 'texts' list with review contents"
+            }), 400
+        
+        texts = data['texts']
+        
+        if len(texts) > MAX_BATCH_SIZE:
+            return jsonify({
+                "error": "Batch too large",
+                "message": f"Batch must contain at most {MAX_BATCH_SIZE} texts"
+            }), 400
+        
+        # Once per batch, as a model would pay per forward pass
+        if SIMULATED_LATENCY_MS:
+            time.sleep(SIMULATED_LATENCY_MS / 1000)
+
+        # Invalid items get an error entry so the rest of the batch still succeeds
+        results = []
+        for raw_text in texts:
+            text = raw_text.strip() if isinstance(raw_text, str) else ''
+            
+            if not text:
+                results.append({"error": "Empty text provided"})
+                continue
+            
+            if len(text) > 5000:
+                results.append({"error": "Text too long"})
+                continue
+            
+            result = analyze_sentiment_and_rating(text)
+            result.update({
+                "text_length": len(text),
+                "processed_by": "textblob"
+            })
+            results.append(result)
+        
+        print(f"📦 Analyzed batch of {len(texts)} texts")
+        
+        return jsonify({
+            "results": results,
+            "count": len(results),
+            "timestamp": time.time()
+        })
+    
+    except Exception as e:
+        print(f"❌ Batch analysis error: {str(e)}")
+        return jsonify({
+            "error": "Analysis failed",
+            "message": str(e)
+        }), 500
+
 @app.route('/admin/toggle-health', methods=['POST'])
 def toggle_health():
     """Toggle model service health status for testing"""
@@ -193,6 +269,7 @@ def root():
         "endpoints": {
             "health": "GET /health",
             "analyze": "POST /analyze",
+            "analyze_batch": "POST /analyze/batch",
             "admin_status": "GET /admin/status",
             "toggle_health": "POST /admin/toggle-health"
         },
@@ -225,4 +302,6 @@ if __name__ == '__main__':
     except Exception as e:
         print(f"⚠️ NLTK setup warning: {e}")
     
+    # HTTP/1.1 keeps connections open so the backend's connection pool can reuse them
+    WSGIRequestHandler.protocol_version = "HTTP/1.1"
     app.run(host='0.0.0.0', port=MODEL_PORT, debug=False) 
\ No newline at end of file